@@ -0,0 +1,24 @@
+package domain;
+
+import org.openjdk.jol.info.GraphLayout;
+
+// Prints the retained heap of a filled engine and of its history for each backend, measured with JOL
+public class HistoryFootprint {
+
+    public static void main(String[] args) {
+        int historySize = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int accountCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+
+        System.out.printf("%-10s %14s %14s %10s%n", "backend", "engine bytes", "history bytes", "B/txn");
+        for (String backend : new String[]{"list", "columnar"}) {
+            var transactionEngine = new TransactionEngine(TransactionHistoryBenchmark.newHistory(backend));
+            for (Transaction txn : TransactionHistoryBenchmark.generate(historySize, accountCount, 42)) {
+                transactionEngine.addTransactionAndDetectFraud(txn);
+            }
+
+            long engineBytes = GraphLayout.parseInstance(transactionEngine).totalSize();
+            long historyBytes = GraphLayout.parseInstance(transactionEngine.transactionHistory).totalSize();
+            System.out.printf("%-10s %14d %14d %10.1f%n", backend, engineBytes, historyBytes, (double) historyBytes / historySize);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package domain;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Per-operation cost should stay flat as historySize grows; a slope means some path went back to scanning.
+// Nothing here adds to the history, so it stays at historySize; inserts are measured in TransactionIngestBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class TransactionEngineBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int historySize;
+
+    @Param({"10", "10000"})
+    int accountCount;
+
+    @Param({"list", "columnar"})
+    String backend;
+
+    TransactionEngine transactionEngine;
+    Random random;
+    int nextTransactionId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        TransactionHistory history = backend.equals("columnar") ? new ColumnarTransactionHistory() : new ListTransactionHistory();
+        transactionEngine = new TransactionEngine(history);
+        random = new Random(42);
+
+        for (nextTransactionId = 0; nextTransactionId < historySize; nextTransactionId++) {
+            transactionEngine.addTransactionAndDetectFraud(nextTransaction());
+        }
+    }
+
+    Transaction nextTransaction() {
+        var txn = new Transaction();
+        txn.transactionId = nextTransactionId;
+        txn.accountId = random.nextInt(accountCount);
+        txn.amount = random.nextInt(2000);
+        txn.isDebit = random.nextBoolean();
+        return txn;
+    }
+
+    @Benchmark
+    public int addTransactionAndDetectFraud_Duplicate() {
+        var txn = new Transaction();
+        txn.transactionId = random.nextInt(historySize);
+        return transactionEngine.addTransactionAndDetectFraud(txn);
+    }
+
+    @Benchmark
+    public int getAverageTransactionAmountByAccount() {
+        return transactionEngine.getAverageTransactionAmountByAccount(random.nextInt(accountCount));
+    }
+
+    @Benchmark
+    public int getTransactionPatternAboveThreshold() {
+        return transactionEngine.getTransactionPatternAboveThreshold(transactionEngine.THRESHOLD);
+    }
+
+    // Untracked per-account thresholds still scan the history, so this one is expected to scale with historySize
+    @Benchmark
+    public int getTransactionPatternAboveThresholdByAccount_Untracked() {
+        return transactionEngine.getTransactionPatternAboveThresholdByAccount(random.nextInt(accountCount), transactionEngine.THRESHOLD);
+    }
+}
@@ -0,0 +1,79 @@
+package domain;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Ingests historySize transactions into a fresh engine per iteration; HistoryFootprint reports the heap side
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class TransactionHistoryBenchmark {
+
+    @Param({"1000000", "5000000"})
+    int historySize;
+
+    @Param({"10000"})
+    int accountCount;
+
+    @Param({"list", "columnar"})
+    String backend;
+
+    Transaction[] transactions;
+    TransactionEngine transactionEngine;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        transactions = generate(historySize, accountCount, 42);
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        transactionEngine = new TransactionEngine(newHistory(backend));
+    }
+
+    @Benchmark
+    public TransactionEngine ingest() {
+        for (Transaction txn : transactions) {
+            transactionEngine.addTransactionAndDetectFraud(txn);
+        }
+        return transactionEngine;
+    }
+
+    static TransactionHistory newHistory(String backend) {
+        return switch (backend) {
+            case "list" -> new ListTransactionHistory();
+            case "columnar" -> new ColumnarTransactionHistory();
+            default -> throw new IllegalArgumentException("Unknown backend: " + backend);
+        };
+    }
+
+    static Transaction[] generate(int count, int accountCount, long seed) {
+        var random = new Random(seed);
+        var transactions = new Transaction[count];
+        for (int i = 0; i < count; i++) {
+            var txn = new Transaction();
+            txn.transactionId = i;
+            txn.accountId = random.nextInt(accountCount);
+            txn.amount = random.nextInt(2000);
+            txn.isDebit = random.nextBoolean();
+            transactions[i] = txn;
+        }
+        return transactions;
+    }
+}
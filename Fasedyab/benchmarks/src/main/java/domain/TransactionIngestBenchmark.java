@@ -0,0 +1,62 @@
+package domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Steady-state insert cost, reported per transaction. The engine is built once per trial and each invocation
+// adds BATCH transactions, so the history starts at historySize and grows by everything the trial inserts;
+// the score should stay flat across historySize, and a slope means some insert path went back to scanning
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(TransactionIngestBenchmark.BATCH)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class TransactionIngestBenchmark {
+    static final int BATCH = 1000;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int historySize;
+
+    @Param({"10", "10000"})
+    int accountCount;
+
+    @Param({"list", "columnar"})
+    String backend;
+
+    TransactionEngineBenchmark state;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        state = new TransactionEngineBenchmark();
+        state.historySize = historySize;
+        state.accountCount = accountCount;
+        state.backend = backend;
+        state.setup();
+    }
+
+    @Benchmark
+    public int addTransactionAndDetectFraud() {
+        var fraudScore = 0;
+        for (int i = 0; i < BATCH; i++) {
+            var txn = state.nextTransaction();
+            state.nextTransactionId++;
+            fraudScore += state.transactionEngine.addTransactionAndDetectFraud(txn);
+        }
+        return fraudScore;
+    }
+}
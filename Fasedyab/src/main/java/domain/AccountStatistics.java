@@ -0,0 +1,46 @@
+package domain;
+
+import lombok.Getter;
+
+@Getter
+public class AccountStatistics {
+    int count;
+    int totalAmount;
+    int minAmount;
+    int maxAmount;
+    double mean;
+    double squaredDeviationSum;
+
+    void add(int amount) {
+        if (count == 0 || amount < minAmount) {
+            minAmount = amount;
+        }
+        if (count == 0 || amount > maxAmount) {
+            maxAmount = amount;
+        }
+
+        count++;
+        totalAmount += amount;
+
+        // Welford's update, so the variance needs no second pass over the history
+        var delta = amount - mean;
+        mean += delta / count;
+        squaredDeviationSum += delta * (amount - mean);
+    }
+
+    int getAverageAmount() {
+        if (count == 0) {
+            return 0;
+        }
+
+        return totalAmount / count;
+    }
+
+    double getVariance() {
+        if (count == 0) {
+            return 0;
+        }
+
+        return squaredDeviationSum / count;
+    }
+}
@@ -0,0 +1,101 @@
+package domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// Stores each field in its own primitive column: 13 bytes per transaction and no object per row
+public class ColumnarTransactionHistory implements TransactionHistory {
+    private static final int INITIAL_CAPACITY = 16;
+
+    int[] transactionIds;
+    int[] accountIds;
+    int[] amounts;
+    boolean[] debits;
+    int size;
+
+    public ColumnarTransactionHistory() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ColumnarTransactionHistory(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+
+        transactionIds = new int[initialCapacity];
+        accountIds = new int[initialCapacity];
+        amounts = new int[initialCapacity];
+        debits = new boolean[initialCapacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(Transaction txn) {
+        add(txn.transactionId, txn.accountId, txn.amount, txn.isDebit);
+    }
+
+    @Override
+    public void add(int transactionId, int accountId, int amount, boolean isDebit) {
+        if (size == transactionIds.length) {
+            grow(size + 1);
+        }
+
+        transactionIds[size] = transactionId;
+        accountIds[size] = accountId;
+        amounts[size] = amount;
+        debits[size] = isDebit;
+        size++;
+    }
+
+    @Override
+    public Transaction get(int index) {
+        Objects.checkIndex(index, size);
+
+        var txn = new Transaction();
+        txn.transactionId = transactionIds[index];
+        txn.accountId = accountIds[index];
+        txn.amount = amounts[index];
+        txn.isDebit = debits[index];
+        return txn;
+    }
+
+    @Override
+    public int getTransactionId(int index) {
+        return transactionIds[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public int getAccountId(int index) {
+        return accountIds[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public int getAmount(int index) {
+        return amounts[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public boolean isDebit(int index) {
+        return debits[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity > transactionIds.length) {
+            grow(capacity);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        var capacity = Math.max(minCapacity, transactionIds.length + (transactionIds.length >> 1) + 1);
+
+        transactionIds = Arrays.copyOf(transactionIds, capacity);
+        accountIds = Arrays.copyOf(accountIds, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        debits = Arrays.copyOf(debits, capacity);
+    }
+}
@@ -0,0 +1,211 @@
+package domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Thread-safe counterpart of TransactionEngine.
+// Transactions of different accounts are scored in parallel under per-account lock stripes, and every stripe
+// keeps its own slice of the history, tagged with a global sequence number; reads merge the slices back in
+// sequence order. The global pattern is order dependent, so while it can still change, the pattern and the
+// sequence are taken together in one short critical section. Once the pattern is broken it stays 0 forever
+// and ingest no longer takes any shared lock. Every result equals a sequential TransactionEngine run in
+// sequence order. Duplicate ids are claimed atomically: the first arrival is ingested, every other copy scores 0.
+public class ConcurrentTransactionEngine {
+    private static final int DEFAULT_STRIPES = 64;
+
+    static final class Stripe {
+        final ReentrantLock lock;
+        final TransactionHistory history;
+        int[] sequences;
+
+        Stripe(TransactionHistory history) {
+            if (!history.isEmpty()) {
+                throw new IllegalArgumentException("Transaction history must be empty");
+            }
+
+            lock = new ReentrantLock();
+            this.history = history;
+            sequences = new int[16];
+        }
+
+        void add(Transaction txn, int sequence) {
+            var size = history.size();
+            if (size == sequences.length) {
+                var grown = new int[size + (size >> 1)];
+                System.arraycopy(sequences, 0, grown, 0, size);
+                sequences = grown;
+            }
+
+            sequences[size] = sequence;
+            history.add(txn);
+        }
+    }
+
+    final Stripe[] stripes;
+    final TransactionIdIndex[] transactionIds;
+    final Map<Integer, AccountStatistics> accountStatistics;
+    final ReentrantLock patternLock;
+    final PatternTracker patternTracker;
+    final AtomicInteger nextSequence;
+    volatile boolean patternBroken;
+    int THRESHOLD = 1000;
+
+    public ConcurrentTransactionEngine() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public ConcurrentTransactionEngine(int stripes) {
+        this(ListTransactionHistory::new, stripes);
+    }
+
+    public ConcurrentTransactionEngine(Supplier<TransactionHistory> historyFactory, int stripes) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a positive power of two");
+        }
+
+        this.stripes = new Stripe[stripes];
+        transactionIds = new TransactionIdIndex[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(historyFactory.get());
+            transactionIds[i] = new TransactionIdIndex();
+        }
+        accountStatistics = new ConcurrentHashMap<>();
+        patternLock = new ReentrantLock();
+        patternTracker = new PatternTracker(THRESHOLD);
+        nextSequence = new AtomicInteger();
+    }
+
+    private int stripeOf(int key) {
+        var hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    Stripe stripeFor(int accountId) {
+        return stripes[stripeOf(accountId)];
+    }
+
+    private boolean claim(int transactionId) {
+        var index = transactionIds[stripeOf(transactionId)];
+        synchronized (index) {
+            return index.add(transactionId);
+        }
+    }
+
+    int getAverageTransactionAmountByAccount(int accountId) {
+        var stripe = stripeFor(accountId);
+        stripe.lock.lock();
+        try {
+            var statistics = accountStatistics.get(accountId);
+
+            if (statistics == null) {
+                return 0;
+            }
+
+            return statistics.getAverageAmount();
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int getTransactionPatternAboveThreshold(int threshold) {
+        if (threshold == patternTracker.getThreshold()) {
+            patternLock.lock();
+            try {
+                return patternTracker.getPattern();
+            } finally {
+                patternLock.unlock();
+            }
+        }
+
+        var history = getTransactionHistory();
+        var tracker = new PatternTracker(threshold);
+        for (int i = 0; i < history.size() && !tracker.isBroken(); i++) {
+            tracker.add(history.getTransactionId(i), history.getAmount(i));
+        }
+        return tracker.getPattern();
+    }
+
+    int size() {
+        var size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.history.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    // A consistent copy of the whole history in sequence order; stripes are locked in index order
+    TransactionHistory getTransactionHistory() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+        try {
+            var size = 0;
+            for (Stripe stripe : stripes) {
+                size += stripe.history.size();
+            }
+
+            // every sequence handed out so far is recorded while all stripes are held, so they are dense
+            var merged = new Transaction[size];
+            for (Stripe stripe : stripes) {
+                for (int i = 0; i < stripe.history.size(); i++) {
+                    merged[stripe.sequences[i]] = stripe.history.get(i);
+                }
+            }
+
+            var history = new ListTransactionHistory();
+            history.ensureCapacity(size);
+            for (Transaction txn : merged) {
+                history.add(txn);
+            }
+            return history;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].lock.unlock();
+            }
+        }
+    }
+
+    public int addTransactionAndDetectFraud(Transaction txn) {
+        if (!claim(txn.transactionId)) {
+            return 0;
+        }
+
+        var stripe = stripeFor(txn.accountId);
+        stripe.lock.lock();
+        try {
+            var statistics = accountStatistics.computeIfAbsent(txn.accountId, id -> new AccountStatistics());
+            var fraudScore = TransactionEngine.detectExcessiveDebit(txn, statistics.getAverageAmount());
+
+            int sequence;
+            if (patternBroken) {
+                sequence = nextSequence.getAndIncrement();
+            } else {
+                patternLock.lock();
+                try {
+                    if (fraudScore == 0) {
+                        fraudScore = patternTracker.getPattern();
+                    }
+                    sequence = nextSequence.getAndIncrement();
+                    patternTracker.add(txn.transactionId, txn.amount);
+                    patternBroken = patternTracker.isBroken();
+                } finally {
+                    patternLock.unlock();
+                }
+            }
+
+            stripe.add(txn, sequence);
+            statistics.add(txn.amount);
+            return fraudScore;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Scores transactions on background workers. Each account is pinned to one worker and every worker
+// drains its own bounded FIFO queue, so transactions of one account are scored in submission order.
+// submit blocks while the account's queue is full; trySubmit fails fast instead. Submissions hold the read side
+// of closeLock while they enqueue, so once close has taken the write side no task can land behind STOP.
+public class FraudScoringPipeline implements AutoCloseable {
+    private record Task(Transaction txn, CompletableFuture<Integer> result, long submittedAt) {
+    }
+
+    private static final Task STOP = new Task(null, null, 0);
+
+    final ConcurrentTransactionEngine transactionEngine;
+    final List<BlockingQueue<Task>> queues;
+    final List<Thread> workers;
+    final LongAdder submittedCount;
+    final LongAdder completedCount;
+    final LongAdder rejectedCount;
+    final LongAdder totalLatencyNanos;
+    final LongAccumulator maxLatencyNanos;
+    final ReentrantReadWriteLock closeLock;
+    volatile boolean closed;
+
+    public FraudScoringPipeline(ConcurrentTransactionEngine transactionEngine, int workerCount, int queueCapacity) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+
+        this.transactionEngine = transactionEngine;
+        queues = new ArrayList<>();
+        workers = new ArrayList<>();
+        submittedCount = new LongAdder();
+        completedCount = new LongAdder();
+        rejectedCount = new LongAdder();
+        totalLatencyNanos = new LongAdder();
+        maxLatencyNanos = new LongAccumulator(Math::max, 0);
+        closeLock = new ReentrantReadWriteLock();
+
+        for (int i = 0; i < workerCount; i++) {
+            var queue = new ArrayBlockingQueue<Task>(queueCapacity);
+            var worker = new Thread(() -> run(queue), "fraud-scoring-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    public CompletableFuture<Integer> submit(Transaction txn) throws InterruptedException {
+        closeLock.readLock().lockInterruptibly();
+        try {
+            var task = createTask(txn);
+            submittedCount.increment();
+            try {
+                queueFor(txn.accountId).put(task);
+            } catch (InterruptedException e) {
+                submittedCount.decrement();
+                throw e;
+            }
+            return task.result;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    public CompletableFuture<Integer> trySubmit(Transaction txn) {
+        closeLock.readLock().lock();
+        try {
+            var task = createTask(txn);
+            submittedCount.increment();
+
+            if (!queueFor(txn.accountId).offer(task)) {
+                submittedCount.decrement();
+                rejectedCount.increment();
+                task.result.completeExceptionally(new RejectedExecutionException("Scoring queue is full"));
+            }
+
+            return task.result;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public int getQueuedCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    public long getAverageLatencyNanos() {
+        var completed = completedCount.sum();
+
+        if (completed == 0) {
+            return 0;
+        }
+
+        return totalLatencyNanos.sum() / completed;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    // Waits for in-flight submissions, scores everything already queued, then stops the workers
+    @Override
+    public void close() throws InterruptedException {
+        closeLock.writeLock().lockInterruptibly();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        for (BlockingQueue<Task> queue : queues) {
+            queue.put(STOP);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // only reachable if a worker died; nothing may be left waiting on a future that will never complete
+        for (BlockingQueue<Task> queue : queues) {
+            for (Task task = queue.poll(); task != null; task = queue.poll()) {
+                if (task != STOP) {
+                    task.result.completeExceptionally(new RejectedExecutionException("Pipeline is closed"));
+                }
+            }
+        }
+    }
+
+    private Task createTask(Transaction txn) {
+        if (closed) {
+            throw new IllegalStateException("Pipeline is closed");
+        }
+
+        return new Task(txn, new CompletableFuture<>(), System.nanoTime());
+    }
+
+    private BlockingQueue<Task> queueFor(int accountId) {
+        var hash = accountId * 0x9E3779B9;
+        return queues.get(Integer.remainderUnsigned(hash ^ (hash >>> 16), queues.size()));
+    }
+
+    private void run(BlockingQueue<Task> queue) {
+        while (true) {
+            Task task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            if (task == STOP) {
+                return;
+            }
+
+            try {
+                var fraudScore = transactionEngine.addTransactionAndDetectFraud(task.txn);
+                record(task);
+                task.result.complete(fraudScore);
+            } catch (Throwable e) {
+                record(task);
+                task.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void record(Task task) {
+        var latency = System.nanoTime() - task.submittedAt;
+
+        completedCount.increment();
+        totalLatencyNanos.add(latency);
+        maxLatencyNanos.accumulate(latency);
+    }
+}
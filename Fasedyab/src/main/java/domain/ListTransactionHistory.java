@@ -0,0 +1,61 @@
+package domain;
+
+import java.util.ArrayList;
+
+public class ListTransactionHistory implements TransactionHistory {
+    ArrayList<Transaction> transactions;
+
+    public ListTransactionHistory() {
+        transactions = new ArrayList<>();
+    }
+
+    @Override
+    public int size() {
+        return transactions.size();
+    }
+
+    @Override
+    public void add(Transaction txn) {
+        transactions.add(txn);
+    }
+
+    @Override
+    public void add(int transactionId, int accountId, int amount, boolean isDebit) {
+        var txn = new Transaction();
+        txn.transactionId = transactionId;
+        txn.accountId = accountId;
+        txn.amount = amount;
+        txn.isDebit = isDebit;
+        transactions.add(txn);
+    }
+
+    @Override
+    public Transaction get(int index) {
+        return transactions.get(index);
+    }
+
+    @Override
+    public int getTransactionId(int index) {
+        return transactions.get(index).transactionId;
+    }
+
+    @Override
+    public int getAccountId(int index) {
+        return transactions.get(index).accountId;
+    }
+
+    @Override
+    public int getAmount(int index) {
+        return transactions.get(index).amount;
+    }
+
+    @Override
+    public boolean isDebit(int index) {
+        return transactions.get(index).isDebit;
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        transactions.ensureCapacity(capacity);
+    }
+}
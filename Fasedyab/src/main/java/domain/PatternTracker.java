@@ -0,0 +1,47 @@
+package domain;
+
+import lombok.Getter;
+
+@Getter
+public class PatternTracker {
+    final int threshold;
+    boolean started;
+    int previousTransactionId;
+    int previousAmount;
+    int diff;
+    boolean broken;
+
+    public PatternTracker(int threshold) {
+        this.threshold = threshold;
+    }
+
+    // Same steps as one iteration of the history scan, so the tracker can be fed transaction by transaction
+    void add(int transactionId, int amount) {
+        if (!started) {
+            started = true;
+            previousTransactionId = transactionId;
+            previousAmount = amount;
+            return;
+        }
+
+        if (broken || transactionId == previousTransactionId || amount <= threshold) {
+            return;
+        }
+
+        if (diff == 0) {
+            diff = amount - previousAmount;
+            previousTransactionId = transactionId;
+            previousAmount = amount;
+        } else if (diff != amount - previousAmount) {
+            broken = true;
+        }
+    }
+
+    int getPattern() {
+        if (broken) {
+            return 0;
+        }
+
+        return diff;
+    }
+}
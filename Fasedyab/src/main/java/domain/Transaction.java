@@ -18,4 +18,9 @@ public class Transaction {
         }
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(transactionId);
+    }
 }
@@ -1,64 +1,172 @@
 package domain;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class TransactionEngine {
-    ArrayList<Transaction> transactionHistory;
+    TransactionHistory transactionHistory;
+    Map<Integer, AccountStatistics> accountStatistics;
+    TransactionIdIndex transactionIds;
+    Map<Integer, PatternTracker> patternTrackers;
+    Map<Integer, Map<Integer, PatternTracker>> accountPatternTrackers;
+    Map<Integer, WindowedAccountStatistics> windowedStatistics;
+    int statisticsWindowSize;
+    TransactionJournal journal;
     int THRESHOLD = 1000;
 
     public TransactionEngine() {
-        transactionHistory = new ArrayList<>();
+        this(TransactionIdIndex.UNBOUNDED);
+    }
+
+    // Only the last dedupeWindowSize ids are remembered; older replays are accepted again.
+    // This bounds the id index only; the history still keeps every accepted transaction
+    public TransactionEngine(int dedupeWindowSize) {
+        this(new ListTransactionHistory(), dedupeWindowSize);
+    }
+
+    public TransactionEngine(TransactionHistory transactionHistory) {
+        this(transactionHistory, TransactionIdIndex.UNBOUNDED);
+    }
+
+    // The history must start empty; aggregates and indexes are only built from transactions added here
+    public TransactionEngine(TransactionHistory transactionHistory, int dedupeWindowSize) {
+        if (!transactionHistory.isEmpty()) {
+            throw new IllegalArgumentException("Transaction history must be empty");
+        }
+
+        this.transactionHistory = transactionHistory;
+        accountStatistics = new HashMap<>();
+        transactionIds = new TransactionIdIndex(dedupeWindowSize);
+        patternTrackers = new HashMap<>();
+        accountPatternTrackers = new HashMap<>();
+        trackPatternAboveThreshold(THRESHOLD);
+    }
+
+    public TransactionEngine(TransactionJournal journal) {
+        this(new ListTransactionHistory(), TransactionIdIndex.UNBOUNDED, journal);
+    }
+
+    // Rebuilds the history, aggregates and dedupe index from the journal, then journals every new transaction.
+    // Records are replayed field by field, so with a ColumnarTransactionHistory recovery allocates nothing per record
+    public TransactionEngine(TransactionHistory transactionHistory, int dedupeWindowSize, TransactionJournal journal) {
+        this(transactionHistory, dedupeWindowSize);
+
+        transactionHistory.ensureCapacity(Math.toIntExact(journal.size()));
+        journal.forEachRecord((transactionId, accountId, amount, isDebit) -> {
+            transactionIds.add(transactionId);
+            transactionHistory.add(transactionId, accountId, amount, isDebit);
+            aggregate(transactionId, accountId, amount);
+        });
+        this.journal = journal;
+    }
+
+    // From now on averages and fraud scores only consider each account's last windowSize transactions.
+    // The window bounds what scoring looks at, not memory: the history and all-time statistics keep every transaction
+    public void useStatisticsWindow(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+
+        var statistics = new HashMap<Integer, WindowedAccountStatistics>();
+        for (int i = 0; i < transactionHistory.size(); i++) {
+            statistics.computeIfAbsent(transactionHistory.getAccountId(i), id -> new WindowedAccountStatistics(windowSize))
+                    .add(transactionHistory.getAmount(i));
+        }
+        statisticsWindowSize = windowSize;
+        windowedStatistics = statistics;
+    }
+
+    public void trackPatternAboveThreshold(int threshold) {
+        if (!patternTrackers.containsKey(threshold)) {
+            patternTrackers.put(threshold, replayPattern(threshold));
+        }
+    }
+
+    public void trackAccountPatternAboveThreshold(int threshold) {
+        if (accountPatternTrackers.containsKey(threshold)) {
+            return;
+        }
+
+        var trackers = new HashMap<Integer, PatternTracker>();
+        for (int i = 0; i < transactionHistory.size(); i++) {
+            trackers.computeIfAbsent(transactionHistory.getAccountId(i), id -> new PatternTracker(threshold))
+                    .add(transactionHistory.getTransactionId(i), transactionHistory.getAmount(i));
+        }
+        accountPatternTrackers.put(threshold, trackers);
+    }
+
+    AccountStatistics getAccountStatistics(int accountId) {
+        return accountStatistics.get(accountId);
     }
 
     int getAverageTransactionAmountByAccount(int accountId) {
-        var totalAmount = 0;
-        var count = 0;
+        if (windowedStatistics != null) {
+            var statistics = windowedStatistics.get(accountId);
 
-        for (Transaction txn : transactionHistory) {
-            if (txn.accountId == accountId) {
-                totalAmount += txn.amount;
-                count++;
+            if (statistics == null) {
+                return 0;
             }
+
+            return statistics.getAverageAmount();
         }
 
-        if (count == 0) {
+        var statistics = accountStatistics.get(accountId);
+
+        if (statistics == null) {
             return 0;
         }
 
-        return totalAmount / count;
+        return statistics.getAverageAmount();
     }
 
     int getTransactionPatternAboveThreshold(int threshold) {
-        if (transactionHistory.isEmpty()) {
-            return 0;
+        var tracker = patternTrackers.get(threshold);
+
+        if (tracker == null) {
+            tracker = replayPattern(threshold);
         }
 
-        var diff = 0;
-        var previous = transactionHistory.getFirst();
+        return tracker.getPattern();
+    }
 
-        for (Transaction txn : transactionHistory) {
-            if (txn.transactionId == previous.transactionId) {
-                continue;
-            }
+    int getTransactionPatternAboveThresholdByAccount(int accountId, int threshold) {
+        var trackers = accountPatternTrackers.get(threshold);
 
-            if (txn.amount <= threshold) {
-                continue;
+        if (trackers == null) {
+            var tracker = new PatternTracker(threshold);
+            for (int i = 0; i < transactionHistory.size(); i++) {
+                if (transactionHistory.getAccountId(i) == accountId) {
+                    tracker.add(transactionHistory.getTransactionId(i), transactionHistory.getAmount(i));
+                }
             }
+            return tracker.getPattern();
+        }
 
-            if (diff == 0) {
-                diff = txn.amount - previous.amount;
-                previous = txn;
-            } else if (diff != txn.amount - previous.amount) {
-                return 0;
-            }
+        var tracker = trackers.get(accountId);
+        if (tracker == null) {
+            return 0;
+        }
+
+        return tracker.getPattern();
+    }
+
+    private PatternTracker replayPattern(int threshold) {
+        var tracker = new PatternTracker(threshold);
+
+        for (int i = 0; i < transactionHistory.size() && !tracker.isBroken(); i++) {
+            tracker.add(transactionHistory.getTransactionId(i), transactionHistory.getAmount(i));
         }
 
-        return diff;
+        return tracker;
     }
 
     int detectFraudulentTransaction(Transaction txn) {
-        var averageAmount = getAverageTransactionAmountByAccount(txn.accountId);
+        return detectExcessiveDebit(txn, getAverageTransactionAmountByAccount(txn.accountId));
+    }
 
+    static int detectExcessiveDebit(Transaction txn, int averageAmount) {
         if (txn.isDebit && txn.amount > 2 * averageAmount) {
             return txn.amount - 2 * averageAmount;  // Excessive debit, marked as suspicious
         }
@@ -67,7 +175,7 @@ public class TransactionEngine {
     }
 
     public int addTransactionAndDetectFraud(Transaction txn) {
-        if (transactionHistory.contains(txn)) {
+        if (transactionIds.contains(txn.transactionId)) {
             return 0;
         }
 
@@ -76,7 +184,50 @@ public class TransactionEngine {
             fraudScore = getTransactionPatternAboveThreshold(THRESHOLD);
         }
 
-        transactionHistory.add(txn);
+        // the id is only claimed once the transaction is journaled, so a failed append leaves it open for redelivery
+        record(txn);
+        transactionIds.add(txn.transactionId);
         return fraudScore;
     }
+
+    // Scores are exactly what calling addTransactionAndDetectFraud on each transaction in order would return
+    public int[] addTransactionsAndDetectFraud(List<Transaction> txns) {
+        transactionHistory.ensureCapacity(transactionHistory.size() + txns.size());
+
+        var fraudScores = new int[txns.size()];
+        var i = 0;
+        for (Transaction txn : txns) {
+            fraudScores[i++] = addTransactionAndDetectFraud(txn);
+        }
+
+        return fraudScores;
+    }
+
+    public int[] addTransactionsAndDetectFraud(Stream<Transaction> txns) {
+        return txns.sequential().mapToInt(this::addTransactionAndDetectFraud).toArray();
+    }
+
+    private void record(Transaction txn) {
+        if (journal != null) {
+            journal.append(txn);
+        }
+
+        transactionHistory.add(txn);
+        aggregate(txn.transactionId, txn.accountId, txn.amount);
+    }
+
+    private void aggregate(int transactionId, int accountId, int amount) {
+        accountStatistics.computeIfAbsent(accountId, id -> new AccountStatistics()).add(amount);
+        if (windowedStatistics != null) {
+            windowedStatistics.computeIfAbsent(accountId, id -> new WindowedAccountStatistics(statisticsWindowSize)).add(amount);
+        }
+
+        for (PatternTracker tracker : patternTrackers.values()) {
+            tracker.add(transactionId, amount);
+        }
+        for (Map.Entry<Integer, Map<Integer, PatternTracker>> entry : accountPatternTrackers.entrySet()) {
+            var threshold = entry.getKey();
+            entry.getValue().computeIfAbsent(accountId, id -> new PatternTracker(threshold)).add(transactionId, amount);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package domain;
+
+public interface TransactionHistory {
+    int size();
+
+    void add(Transaction txn);
+
+    void add(int transactionId, int accountId, int amount, boolean isDebit);
+
+    Transaction get(int index);
+
+    int getTransactionId(int index);
+
+    int getAccountId(int index);
+
+    int getAmount(int index);
+
+    boolean isDebit(int index);
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    default void ensureCapacity(int capacity) {
+    }
+}
@@ -0,0 +1,125 @@
+package domain;
+
+public class TransactionIdIndex {
+    static final int UNBOUNDED = 0;
+    private static final int INITIAL_CAPACITY = 16;
+
+    int[] keys;
+    boolean[] occupied;
+    int size;
+    int[] window;
+    int windowStart;
+
+    public TransactionIdIndex() {
+        this(UNBOUNDED);
+    }
+
+    public TransactionIdIndex(int windowSize) {
+        if (windowSize < 0) {
+            throw new IllegalArgumentException("Window size must not be negative");
+        }
+
+        var capacity = INITIAL_CAPACITY;
+        if (windowSize != UNBOUNDED) {
+            // sized once for the whole window, so a bounded index never rehashes
+            while (capacity < 2 * windowSize) {
+                capacity <<= 1;
+            }
+            window = new int[windowSize];
+        }
+
+        keys = new int[capacity];
+        occupied = new boolean[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int transactionId) {
+        return indexOf(transactionId) >= 0;
+    }
+
+    public boolean add(int transactionId) {
+        if (contains(transactionId)) {
+            return false;
+        }
+
+        if (window != null) {
+            if (size == window.length) {
+                remove(window[windowStart]);
+                window[windowStart] = transactionId;
+                windowStart = (windowStart + 1) % window.length;
+            } else {
+                window[(windowStart + size) % window.length] = transactionId;
+            }
+        } else if (2 * (size + 1) > keys.length) {
+            resize(2 * keys.length);
+        }
+
+        insert(transactionId);
+        return true;
+    }
+
+    private int slotOf(int transactionId) {
+        var hash = transactionId * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    private int indexOf(int transactionId) {
+        var mask = keys.length - 1;
+        for (int slot = slotOf(transactionId); occupied[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == transactionId) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(int transactionId) {
+        var mask = keys.length - 1;
+        var slot = slotOf(transactionId);
+        while (occupied[slot]) {
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = transactionId;
+        occupied[slot] = true;
+        size++;
+    }
+
+    private void remove(int transactionId) {
+        var hole = indexOf(transactionId);
+        if (hole < 0) {
+            return;
+        }
+
+        // backward-shift deletion keeps every probe chain intact without tombstones
+        var mask = keys.length - 1;
+        for (int next = (hole + 1) & mask; occupied[next]; next = (next + 1) & mask) {
+            var home = slotOf(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                hole = next;
+            }
+        }
+
+        occupied[hole] = false;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        var oldKeys = keys;
+        var oldOccupied = occupied;
+
+        keys = new int[capacity];
+        occupied = new boolean[capacity];
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldOccupied[i]) {
+                insert(oldKeys[i]);
+            }
+        }
+    }
+}
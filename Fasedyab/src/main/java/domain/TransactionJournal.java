@@ -0,0 +1,172 @@
+package domain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Append-only file of fixed-width transaction records, written and read through memory mappings.
+// Layout: a 16 byte header (magic, version, record count) followed by 16 byte records
+// (transactionId, accountId, amount, debit flag). The count is written after the record it covers,
+// so a process crash mid-append never exposes a partial record. Call flush to survive an OS crash.
+// The file is mapped in power-of-two segments, so it is not limited to what one buffer can address;
+// records are 16 byte aligned and never straddle two segments.
+public class TransactionJournal implements Closeable {
+    static final int MAGIC = 0x46534442;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 16;
+    static final int SEGMENT_BYTES = 1 << 30;
+    private static final int COUNT_OFFSET = 8;
+    private static final int INITIAL_RECORDS = 1024;
+
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(int transactionId, int accountId, int amount, boolean isDebit);
+    }
+
+    final FileChannel channel;
+    final int segmentShift;
+    MappedByteBuffer[] segments;
+    long capacity;
+    long count;
+
+    public TransactionJournal(Path path) throws IOException {
+        this(path, SEGMENT_BYTES);
+    }
+
+    TransactionJournal(Path path, int segmentBytes) throws IOException {
+        if (segmentBytes < HEADER_BYTES + RECORD_BYTES || Integer.bitCount(segmentBytes) != 1) {
+            throw new IllegalArgumentException("Segment size must be a power of two of at least " + (HEADER_BYTES + RECORD_BYTES) + " bytes");
+        }
+
+        segmentShift = Integer.numberOfTrailingZeros(segmentBytes);
+        segments = new MappedByteBuffer[0];
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            var fileSize = channel.size();
+            map(Math.max(fileSize, HEADER_BYTES + (long) INITIAL_RECORDS * RECORD_BYTES));
+            var header = segments[0];
+
+            if (fileSize == 0) {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putLong(COUNT_OFFSET, 0);
+                return;
+            }
+
+            if (fileSize < HEADER_BYTES || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a transaction journal: " + path);
+            }
+
+            count = header.getLong(COUNT_OFFSET);
+            if (count < 0 || count > (fileSize - HEADER_BYTES) / RECORD_BYTES) {
+                throw new IOException("Corrupted transaction journal: " + path);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public void append(Transaction txn) {
+        append(txn.transactionId, txn.accountId, txn.amount, txn.isDebit);
+    }
+
+    public void append(int transactionId, int accountId, int amount, boolean isDebit) {
+        var position = HEADER_BYTES + count * RECORD_BYTES;
+        if (position + RECORD_BYTES > capacity) {
+            grow(position + RECORD_BYTES);
+        }
+
+        var segment = segmentAt(position);
+        var offset = offsetOf(position);
+        segment.putInt(offset, transactionId);
+        segment.putInt(offset + 4, accountId);
+        segment.putInt(offset + 8, amount);
+        segment.putInt(offset + 12, isDebit ? 1 : 0);
+
+        count++;
+        segments[0].putLong(COUNT_OFFSET, count);
+    }
+
+    // Reads the fields straight out of the mapping; nothing is allocated per record
+    public void forEachRecord(RecordConsumer action) {
+        for (long i = 0; i < count; i++) {
+            var position = HEADER_BYTES + i * RECORD_BYTES;
+            var segment = segmentAt(position);
+            var offset = offsetOf(position);
+            action.accept(segment.getInt(offset), segment.getInt(offset + 4), segment.getInt(offset + 8), segment.getInt(offset + 12) != 0);
+        }
+    }
+
+    public void forEach(Consumer<Transaction> action) {
+        forEachRecord((transactionId, accountId, amount, isDebit) -> {
+            var txn = new Transaction();
+            txn.transactionId = transactionId;
+            txn.accountId = accountId;
+            txn.amount = amount;
+            txn.isDebit = isDebit;
+            action.accept(txn);
+        });
+    }
+
+    public void flush() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private MappedByteBuffer segmentAt(long position) {
+        return segments[(int) (position >>> segmentShift)];
+    }
+
+    private int offsetOf(long position) {
+        return (int) (position & ((1L << segmentShift) - 1));
+    }
+
+    private void grow(long minCapacity) {
+        // doubles while small, then grows one segment at a time
+        var grown = Math.max(minCapacity, Math.min(2 * capacity, capacity + (1L << segmentShift)));
+
+        try {
+            map(grown);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(long newCapacity) throws IOException {
+        var segmentBytes = 1L << segmentShift;
+        var segmentCount = Math.toIntExact((newCapacity + segmentBytes - 1) >>> segmentShift);
+        var mapped = Arrays.copyOf(segments, segmentCount);
+
+        // full segments stay mapped; only a partially mapped last segment and the new ones are mapped again
+        for (int i = Math.max(segments.length - 1, 0); i < segmentCount; i++) {
+            var start = (long) i << segmentShift;
+            var length = Math.min(segmentBytes, newCapacity - start);
+            if (mapped[i] == null || mapped[i].capacity() < length) {
+                mapped[i] = channel.map(FileChannel.MapMode.READ_WRITE, start, length);
+            }
+        }
+
+        segments = mapped;
+        capacity = newCapacity;
+    }
+}
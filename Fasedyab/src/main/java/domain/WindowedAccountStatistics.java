@@ -0,0 +1,52 @@
+package domain;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+// Running sum over the last windowSize amounts of one account, kept in a ring buffer
+@Getter
+public class WindowedAccountStatistics {
+    private static final int INITIAL_CAPACITY = 8;
+
+    final int windowSize;
+    int[] amounts;
+    int start;
+    int count;
+    int totalAmount;
+
+    public WindowedAccountStatistics(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+
+        this.windowSize = windowSize;
+        amounts = new int[Math.min(windowSize, INITIAL_CAPACITY)];
+    }
+
+    void add(int amount) {
+        if (count == windowSize) {
+            totalAmount -= amounts[start];
+            amounts[start] = amount;
+            start = (start + 1) % windowSize;
+            totalAmount += amount;
+            return;
+        }
+
+        // the buffer only wraps once it holds a full window, so growing never has to unwrap it
+        if (count == amounts.length) {
+            amounts = Arrays.copyOf(amounts, Math.min(windowSize, 2 * amounts.length));
+        }
+
+        amounts[count++] = amount;
+        totalAmount += amount;
+    }
+
+    int getAverageAmount() {
+        if (count == 0) {
+            return 0;
+        }
+
+        return totalAmount / count;
+    }
+}
@@ -0,0 +1,64 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AccountStatisticsTest {
+
+    AccountStatistics accountStatistics;
+
+    @BeforeEach
+    void setup() {
+        accountStatistics = new AccountStatistics();
+    }
+
+    @Test
+    @DisplayName("Test empty statistics")
+    void testEmpty() {
+        assertEquals(0, accountStatistics.getCount());
+        assertEquals(0, accountStatistics.getAverageAmount());
+        assertEquals(0, accountStatistics.getVariance());
+    }
+
+    @Test
+    @DisplayName("Test add updates count, total, min and max")
+    void testAdd() {
+        accountStatistics.add(100);
+        accountStatistics.add(50);
+        accountStatistics.add(150);
+
+        assertEquals(3, accountStatistics.getCount());
+        assertEquals(300, accountStatistics.getTotalAmount());
+        assertEquals(50, accountStatistics.getMinAmount());
+        assertEquals(150, accountStatistics.getMaxAmount());
+    }
+
+    @Test
+    @DisplayName("Test average is truncated like integer division")
+    void testGetAverageAmount() {
+        accountStatistics.add(100);
+        accountStatistics.add(50);
+        accountStatistics.add(150);
+        accountStatistics.add(165);
+
+        assertEquals(116, accountStatistics.getAverageAmount());
+    }
+
+    @Test
+    @DisplayName("Test population variance")
+    void testGetVariance() {
+        accountStatistics.add(2);
+        accountStatistics.add(4);
+        accountStatistics.add(4);
+        accountStatistics.add(4);
+        accountStatistics.add(5);
+        accountStatistics.add(5);
+        accountStatistics.add(7);
+        accountStatistics.add(9);
+
+        assertEquals(4.0, accountStatistics.getVariance(), 1e-9);
+    }
+}
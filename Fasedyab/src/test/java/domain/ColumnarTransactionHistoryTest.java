@@ -0,0 +1,86 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarTransactionHistoryTest {
+
+    ColumnarTransactionHistory history;
+    Transaction transaction;
+
+    @BeforeEach
+    void setup() {
+        history = new ColumnarTransactionHistory(1);
+
+        transaction = new Transaction();
+        transaction.setTransactionId(1);
+        transaction.setAccountId(2);
+        transaction.setAmount(300);
+        transaction.setDebit(true);
+    }
+
+    @Test
+    @DisplayName("Test empty history")
+    void testEmpty() {
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.size());
+    }
+
+    @Test
+    @DisplayName("Test add stores every column")
+    void testAdd() {
+        history.add(transaction);
+
+        assertEquals(1, history.size());
+        assertEquals(1, history.getTransactionId(0));
+        assertEquals(2, history.getAccountId(0));
+        assertEquals(300, history.getAmount(0));
+        assertTrue(history.isDebit(0));
+    }
+
+    @Test
+    @DisplayName("Test get materializes an equal transaction")
+    void testGet() {
+        history.add(transaction);
+
+        var stored = history.get(0);
+
+        assertEquals(transaction, stored);
+        assertEquals(2, stored.getAccountId());
+        assertEquals(300, stored.getAmount());
+        assertTrue(stored.isDebit());
+    }
+
+    @Test
+    @DisplayName("Test add grows past the initial capacity")
+    void testAdd_Growth() {
+        for (int i = 0; i < 1000; i++) {
+            transaction.setTransactionId(i);
+            transaction.setAmount(i * 2);
+            history.add(transaction);
+        }
+
+        assertEquals(1000, history.size());
+        assertEquals(999, history.getTransactionId(999));
+        assertEquals(1998, history.getAmount(999));
+    }
+
+    @Test
+    @DisplayName("Test index past size")
+    void testGet_OutOfBounds() {
+        history.ensureCapacity(10);
+        history.add(transaction);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getAmount(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(-1));
+    }
+
+    @Test
+    @DisplayName("Test negative initial capacity")
+    void testConstructor_NegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarTransactionHistory(-1));
+    }
+}
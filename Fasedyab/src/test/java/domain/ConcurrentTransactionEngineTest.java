@@ -0,0 +1,196 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentTransactionEngineTest {
+
+    static final int THREADS = 8;
+
+    ConcurrentTransactionEngine concurrentEngine;
+    ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        concurrentEngine = new ConcurrentTransactionEngine(8);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    Transaction createTransaction(int transactionId, int accountId, int amount, boolean isDebit) {
+        var txn = new Transaction();
+        txn.setTransactionId(transactionId);
+        txn.setAccountId(accountId);
+        txn.setAmount(amount);
+        txn.setDebit(isDebit);
+        return txn;
+    }
+
+    void runConcurrently(List<? extends Runnable> tasks) throws Exception {
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<?>>();
+
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Test single-threaded use matches TransactionEngine")
+    void testAddTransactionAndDetectFraud_MatchesSequential() {
+        var transactionEngine = new TransactionEngine();
+        var random = new Random(13);
+
+        for (int i = 0; i < 3000; i++) {
+            var txn = createTransaction(random.nextInt(2000), random.nextInt(10), random.nextInt(2500), random.nextBoolean());
+
+            assertEquals(transactionEngine.addTransactionAndDetectFraud(txn), concurrentEngine.addTransactionAndDetectFraud(txn));
+        }
+
+        for (int accountId = 0; accountId < 10; accountId++) {
+            assertEquals(transactionEngine.getAverageTransactionAmountByAccount(accountId),
+                    concurrentEngine.getAverageTransactionAmountByAccount(accountId));
+        }
+        assertEquals(transactionEngine.getTransactionPatternAboveThreshold(500), concurrentEngine.getTransactionPatternAboveThreshold(500));
+    }
+
+    @Test
+    @DisplayName("Test concurrent duplicates are ingested exactly once")
+    void testAddTransactionAndDetectFraud_ConcurrentDuplicates() throws Exception {
+        var tasks = new ArrayList<Runnable>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            tasks.add(() -> {
+                for (int id = 0; id < 5000; id++) {
+                    concurrentEngine.addTransactionAndDetectFraud(createTransaction(id, id % 17, 10, false));
+                }
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertEquals(5000, concurrentEngine.size());
+    }
+
+    @Test
+    @DisplayName("Test concurrent ingest equals a sequential replay of the recorded order")
+    void testAddTransactionAndDetectFraud_Linearizable() throws Exception {
+        Map<Integer, Integer> fraudScores = new ConcurrentHashMap<>();
+        var nextId = new AtomicInteger();
+        var tasks = new ArrayList<Runnable>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            var random = new Random(thread);
+            tasks.add(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    var id = random.nextInt(10) == 0 ? random.nextInt(Math.max(1, nextId.get())) : nextId.getAndIncrement();
+                    var txn = createTransaction(id, random.nextInt(32), 1000 + random.nextInt(3) * 100, random.nextBoolean());
+                    var fraudScore = concurrentEngine.addTransactionAndDetectFraud(txn);
+                    if (fraudScore != 0) {
+                        fraudScores.put(id, fraudScore);
+                    }
+                }
+            });
+        }
+
+        runConcurrently(tasks);
+
+        var replayEngine = new TransactionEngine();
+        var history = concurrentEngine.getTransactionHistory();
+        for (int i = 0; i < history.size(); i++) {
+            var txn = history.get(i);
+            assertEquals(fraudScores.getOrDefault(txn.transactionId, 0), replayEngine.addTransactionAndDetectFraud(txn));
+        }
+        for (int accountId = 0; accountId < 32; accountId++) {
+            assertEquals(replayEngine.getAverageTransactionAmountByAccount(accountId),
+                    concurrentEngine.getAverageTransactionAmountByAccount(accountId));
+        }
+        assertEquals(replayEngine.getTransactionPatternAboveThreshold(1000), concurrentEngine.getTransactionPatternAboveThreshold(1000));
+    }
+
+    @Test
+    @DisplayName("Test ingest takes no shared lock once the pattern is broken")
+    void testAddTransactionAndDetectFraud_BrokenPatternIsLockFree() throws Exception {
+        concurrentEngine.addTransactionAndDetectFraud(createTransaction(0, 0, 1100, false));
+        concurrentEngine.addTransactionAndDetectFraud(createTransaction(1, 1, 1200, false));
+        concurrentEngine.addTransactionAndDetectFraud(createTransaction(2, 2, 1500, false));
+        assertTrue(concurrentEngine.patternBroken);
+
+        concurrentEngine.patternLock.lock();
+        try {
+            var ingest = executor.submit(() -> {
+                for (int id = 3; id < 1000; id++) {
+                    concurrentEngine.addTransactionAndDetectFraud(createTransaction(id, id % 32, 10, true));
+                }
+            });
+            ingest.get(30, TimeUnit.SECONDS);
+        } finally {
+            concurrentEngine.patternLock.unlock();
+        }
+
+        assertEquals(1000, concurrentEngine.size());
+    }
+
+    @Test
+    @DisplayName("Test accounts in other stripes ingest while one stripe is held")
+    void testAddTransactionAndDetectFraud_StripesIndependent() throws Exception {
+        concurrentEngine = new ConcurrentTransactionEngine(ColumnarTransactionHistory::new, 8);
+        var blocked = concurrentEngine.stripes[concurrentEngine.stripes.length - 1];
+        var otherAccounts = new ArrayList<Integer>();
+        for (int accountId = 0; otherAccounts.size() < 10; accountId++) {
+            if (concurrentEngine.stripeFor(accountId) != blocked) {
+                otherAccounts.add(accountId);
+            }
+        }
+
+        blocked.lock.lock();
+        try {
+            var ingest = executor.submit(() -> {
+                for (int id = 0; id < 1000; id++) {
+                    concurrentEngine.addTransactionAndDetectFraud(createTransaction(id, otherAccounts.get(id % 10), 10 + id, true));
+                }
+            });
+            ingest.get(30, TimeUnit.SECONDS);
+        } finally {
+            blocked.lock.unlock();
+        }
+
+        assertEquals(1000, concurrentEngine.getTransactionHistory().size());
+    }
+
+    @Test
+    @DisplayName("Test invalid stripe count")
+    void testConstructor_InvalidStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentTransactionEngine(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentTransactionEngine(12));
+    }
+}
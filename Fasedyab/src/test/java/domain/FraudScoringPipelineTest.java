@@ -0,0 +1,215 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class FraudScoringPipelineTest {
+
+    ConcurrentTransactionEngine concurrentEngine;
+    FraudScoringPipeline pipeline;
+
+    @BeforeEach
+    void setup() {
+        concurrentEngine = new ConcurrentTransactionEngine();
+        pipeline = new FraudScoringPipeline(concurrentEngine, 4, 16);
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        pipeline.close();
+    }
+
+    Transaction createTransaction(int transactionId, int accountId, int amount, boolean isDebit) {
+        var txn = new Transaction();
+        txn.setTransactionId(transactionId);
+        txn.setAccountId(accountId);
+        txn.setAmount(amount);
+        txn.setDebit(isDebit);
+        return txn;
+    }
+
+    @Test
+    @DisplayName("Test submit completes with the fraud score")
+    void testSubmit() throws Exception {
+        pipeline.submit(createTransaction(1, 1, 100, false));
+        pipeline.submit(createTransaction(2, 1, 50, false));
+
+        assertEquals(150, pipeline.submit(createTransaction(3, 1, 300, true)).get(10, TimeUnit.SECONDS));
+        assertEquals(3, pipeline.getSubmittedCount());
+        assertEquals(3, pipeline.getCompletedCount());
+        assertTrue(pipeline.getMaxLatencyNanos() >= pipeline.getAverageLatencyNanos());
+    }
+
+    @Test
+    @DisplayName("Test transactions of one account are scored in submission order")
+    void testSubmit_PerAccountOrder() throws Exception {
+        var random = new Random(29);
+        var txns = new ArrayList<Transaction>();
+        var results = new ArrayList<CompletableFuture<Integer>>();
+
+        for (int i = 0; i < 4000; i++) {
+            var txn = createTransaction(i, random.nextInt(50), random.nextInt(2000), random.nextBoolean());
+            txns.add(txn);
+            results.add(pipeline.submit(txn));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+        var lastIdByAccount = new int[50];
+        Arrays.fill(lastIdByAccount, -1);
+        var history = concurrentEngine.getTransactionHistory();
+        for (int i = 0; i < history.size(); i++) {
+            var accountId = history.getAccountId(i);
+            assertTrue(history.getTransactionId(i) > lastIdByAccount[accountId]);
+            lastIdByAccount[accountId] = history.getTransactionId(i);
+        }
+
+        var replayEngine = new TransactionEngine();
+        var fraudScores = new int[txns.size()];
+        for (int i = 0; i < history.size(); i++) {
+            fraudScores[history.getTransactionId(i)] = replayEngine.addTransactionAndDetectFraud(history.get(i));
+        }
+        for (int i = 0; i < txns.size(); i++) {
+            assertEquals(fraudScores[i], results.get(i).get());
+        }
+    }
+
+    @Test
+    @DisplayName("Test trySubmit rejects when the queue is full")
+    void testTrySubmit_Backpressure() throws Exception {
+        pipeline.close();
+        pipeline = new FraudScoringPipeline(concurrentEngine, 1, 1);
+        var stripes = concurrentEngine.stripes;
+        for (ConcurrentTransactionEngine.Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+
+        CompletableFuture<Integer> blocked, queued, rejected;
+        try {
+            blocked = pipeline.trySubmit(createTransaction(1, 1, 100, false));
+            while (pipeline.getQueuedCount() != 0) {
+                Thread.onSpinWait();
+            }
+            queued = pipeline.trySubmit(createTransaction(2, 1, 100, false));
+            rejected = pipeline.trySubmit(createTransaction(3, 1, 100, false));
+
+            var exception = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+            assertEquals(1, pipeline.getRejectedCount());
+            assertEquals(1, pipeline.getQueuedCount());
+        } finally {
+            for (ConcurrentTransactionEngine.Stripe stripe : stripes) {
+                stripe.lock.unlock();
+            }
+        }
+
+        assertEquals(0, blocked.get(10, TimeUnit.SECONDS));
+        assertEquals(0, queued.get(10, TimeUnit.SECONDS));
+        assertEquals(2, pipeline.getSubmittedCount());
+    }
+
+    @Test
+    @DisplayName("Test close scores queued transactions and refuses new ones")
+    void testClose() throws Exception {
+        var results = new ArrayList<CompletableFuture<Integer>>();
+        for (int i = 0; i < 100; i++) {
+            results.add(pipeline.submit(createTransaction(i, i % 5, 100, false)));
+        }
+
+        pipeline.close();
+
+        assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+        assertEquals(100, concurrentEngine.size());
+        assertThrows(IllegalStateException.class, () -> pipeline.submit(createTransaction(100, 1, 100, false)));
+    }
+
+    @Test
+    @DisplayName("Test close lets a blocked submit finish instead of stranding it")
+    void testClose_BlockedSubmit() throws Exception {
+        pipeline.close();
+        pipeline = new FraudScoringPipeline(concurrentEngine, 1, 1);
+        var stripes = concurrentEngine.stripes;
+        for (ConcurrentTransactionEngine.Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Integer> running, queued;
+            Future<CompletableFuture<Integer>> blocked;
+            Future<?> closing;
+            try {
+                running = pipeline.submit(createTransaction(1, 1, 100, false));
+                while (pipeline.getQueuedCount() != 0) {
+                    Thread.onSpinWait();
+                }
+                queued = pipeline.submit(createTransaction(2, 1, 100, false));
+                blocked = executor.submit(() -> pipeline.submit(createTransaction(3, 1, 100, false)));
+                while (pipeline.getSubmittedCount() != 3) {
+                    Thread.onSpinWait();
+                }
+                closing = executor.submit(() -> {
+                    pipeline.close();
+                    return null;
+                });
+            } finally {
+                for (ConcurrentTransactionEngine.Stripe stripe : stripes) {
+                    stripe.lock.unlock();
+                }
+            }
+
+            closing.get(10, TimeUnit.SECONDS);
+            assertEquals(0, running.get(10, TimeUnit.SECONDS));
+            assertEquals(0, queued.get(10, TimeUnit.SECONDS));
+            assertEquals(0, blocked.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS));
+            assertEquals(3, pipeline.getCompletedCount());
+            assertThrows(IllegalStateException.class, () -> pipeline.trySubmit(createTransaction(4, 1, 100, false)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test an Error fails only its own transaction")
+    void testSubmit_Error() throws Exception {
+        pipeline.close();
+        concurrentEngine = new ConcurrentTransactionEngine() {
+            @Override
+            public int addTransactionAndDetectFraud(Transaction txn) {
+                if (txn.transactionId == 7) {
+                    throw new AssertionError("scoring failed");
+                }
+                return super.addTransactionAndDetectFraud(txn);
+            }
+        };
+        pipeline = new FraudScoringPipeline(concurrentEngine, 1, 4);
+
+        var failed = pipeline.submit(createTransaction(7, 1, 100, false));
+        var next = pipeline.submit(createTransaction(8, 1, 100, false));
+
+        var exception = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, exception.getCause());
+        assertEquals(0, next.get(10, TimeUnit.SECONDS));
+        assertEquals(2, pipeline.getCompletedCount());
+    }
+
+    @Test
+    @DisplayName("Test invalid pipeline configuration")
+    void testConstructor_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new FraudScoringPipeline(concurrentEngine, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FraudScoringPipeline(concurrentEngine, 1, 0));
+    }
+}
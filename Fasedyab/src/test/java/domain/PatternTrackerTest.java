@@ -0,0 +1,73 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PatternTrackerTest {
+
+    PatternTracker patternTracker;
+
+    @BeforeEach
+    void setup() {
+        patternTracker = new PatternTracker(50);
+    }
+
+    @Test
+    @DisplayName("Test empty tracker")
+    void testGetPattern_Empty() {
+        assertEquals(0, patternTracker.getPattern());
+    }
+
+    @Test
+    @DisplayName("Test first transaction only sets the starting amount")
+    void testAdd_First() {
+        patternTracker.add(1, 100);
+
+        assertTrue(patternTracker.isStarted());
+        assertEquals(0, patternTracker.getPattern());
+    }
+
+    @Test
+    @DisplayName("Test pattern with amounts above threshold")
+    void testAdd_WithPattern() {
+        patternTracker.add(1, 100);
+        patternTracker.add(2, 200);
+        patternTracker.add(3, 300);
+
+        assertEquals(100, patternTracker.getPattern());
+    }
+
+    @Test
+    @DisplayName("Test amounts below threshold are ignored")
+    void testAdd_BelowThreshold() {
+        patternTracker.add(1, 100);
+        patternTracker.add(2, 50);
+        patternTracker.add(3, 200);
+
+        assertEquals(100, patternTracker.getPattern());
+    }
+
+    @Test
+    @DisplayName("Test broken pattern stays zero")
+    void testAdd_Broken() {
+        patternTracker.add(1, 100);
+        patternTracker.add(2, 200);
+        patternTracker.add(3, 260);
+        patternTracker.add(4, 300);
+
+        assertTrue(patternTracker.isBroken());
+        assertEquals(0, patternTracker.getPattern());
+    }
+
+    @Test
+    @DisplayName("Test same id as previous is skipped")
+    void testAdd_SameIdAsPrevious() {
+        patternTracker.add(1, 100);
+        patternTracker.add(1, 300);
+
+        assertEquals(0, patternTracker.getPattern());
+    }
+}
@@ -2,6 +2,10 @@ package domain;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -143,6 +147,20 @@ public class TransactionEngineTest {
         assertEquals(0, transactionEngine.addTransactionAndDetectFraud(transaction1));
     }
 
+    @Test
+    @DisplayName("Test addTransactionAndDetectFraud duplicate outside dedupe window")
+    void testAddTransactionAndDetectFraud_DuplicateOutsideWindow() {
+        transactionEngine = new TransactionEngine(1);
+        transactionEngine.addTransactionAndDetectFraud(transaction1);
+        transactionEngine.addTransactionAndDetectFraud(transaction2);
+
+        transactionEngine.addTransactionAndDetectFraud(transaction1);
+
+        assertEquals(3, transactionEngine.transactionHistory.size());
+        assertEquals(0, transactionEngine.addTransactionAndDetectFraud(transaction1));
+        assertEquals(3, transactionEngine.transactionHistory.size());
+    }
+
     @Test
     @DisplayName("Test addTransactionAndDetectFraud with fraudScore == 0")
     void testAddTransactionAndDetectFraud_FraudScoreZero() {
@@ -174,4 +192,223 @@ public class TransactionEngineTest {
         int fraudScore = transactionEngine.addTransactionAndDetectFraud(excessiveDebitTransaction);
         assertTrue(fraudScore > 0);
     }
+
+    @Test
+    @DisplayName("Test addTransactionAndDetectFraud matches the full-history scan")
+    void testAddTransactionAndDetectFraud_MatchesReference() {
+        var referenceEngine = new ReferenceTransactionEngine();
+        var random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            var txn = new Transaction();
+            txn.setTransactionId(random.nextInt(4000));
+            txn.setAccountId(random.nextInt(20));
+            txn.setDebit(random.nextBoolean());
+            txn.setAmount(random.nextInt(2000));
+
+            assertEquals(referenceEngine.addTransactionAndDetectFraud(txn), transactionEngine.addTransactionAndDetectFraud(txn));
+        }
+
+        for (int accountId = 0; accountId < 20; accountId++) {
+            assertEquals(referenceEngine.getAverageTransactionAmountByAccount(accountId),
+                    transactionEngine.getAverageTransactionAmountByAccount(accountId));
+        }
+    }
+
+    @Test
+    @DisplayName("Test columnar history matches the full-history scan")
+    void testAddTransactionAndDetectFraud_ColumnarMatchesReference() {
+        transactionEngine = new TransactionEngine(new ColumnarTransactionHistory());
+        transactionEngine.trackAccountPatternAboveThreshold(100);
+        var referenceEngine = new ReferenceTransactionEngine();
+        var random = new Random(5);
+
+        for (int i = 0; i < 3000; i++) {
+            var txn = new Transaction();
+            txn.setTransactionId(random.nextInt(2000));
+            txn.setAccountId(random.nextInt(15));
+            txn.setDebit(random.nextBoolean());
+            txn.setAmount(random.nextInt(1500));
+
+            assertEquals(referenceEngine.addTransactionAndDetectFraud(txn), transactionEngine.addTransactionAndDetectFraud(txn));
+        }
+
+        assertEquals(referenceEngine.transactionHistory.size(), transactionEngine.transactionHistory.size());
+        assertEquals(referenceEngine.getTransactionPatternAboveThreshold(100), transactionEngine.getTransactionPatternAboveThreshold(100));
+    }
+
+    @Test
+    @DisplayName("Test engine rejects a non-empty history")
+    void testConstructor_NonEmptyHistory() {
+        var history = new ColumnarTransactionHistory();
+        history.add(transaction1);
+
+        assertThrows(IllegalArgumentException.class, () -> new TransactionEngine(history));
+    }
+
+    @Test
+    @DisplayName("Test tracked thresholds match the full-history scan")
+    void testGetTransactionPatternAboveThreshold_TrackedMatchesReference() {
+        var referenceEngine = new ReferenceTransactionEngine();
+        transactionEngine.trackPatternAboveThreshold(50);
+        transactionEngine.trackPatternAboveThreshold(150);
+
+        for (int i = 0; i < 40; i++) {
+            var txn = new Transaction();
+            txn.setTransactionId(i);
+            txn.setAccountId(i % 3);
+            txn.setAmount(i % 4 == 0 ? 10 : 100 + 100 * (i % 5));
+
+            assertEquals(referenceEngine.addTransactionAndDetectFraud(txn), transactionEngine.addTransactionAndDetectFraud(txn));
+            for (int threshold : new int[]{0, 50, 150, 1000}) {
+                assertEquals(referenceEngine.getTransactionPatternAboveThreshold(threshold),
+                        transactionEngine.getTransactionPatternAboveThreshold(threshold));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test getTransactionPatternAboveThresholdByAccount")
+    void testGetTransactionPatternAboveThresholdByAccount() {
+        transactionEngine.addTransactionAndDetectFraud(transaction1);
+        transactionEngine.addTransactionAndDetectFraud(transaction3);
+        transactionEngine.addTransactionAndDetectFraud(transaction2);
+        transactionEngine.addTransactionAndDetectFraud(transaction4);
+
+        assertEquals(160, transactionEngine.getTransactionPatternAboveThresholdByAccount(1, 50));
+        assertEquals(0, transactionEngine.getTransactionPatternAboveThresholdByAccount(2, 50));
+        assertEquals(0, transactionEngine.getTransactionPatternAboveThresholdByAccount(3, 50));
+    }
+
+    @Test
+    @DisplayName("Test tracked account thresholds match the untracked scan")
+    void testGetTransactionPatternAboveThresholdByAccount_TrackedMatchesScan() {
+        var trackedEngine = new TransactionEngine();
+        trackedEngine.trackAccountPatternAboveThreshold(50);
+        var random = new Random(3);
+
+        for (int i = 0; i < 500; i++) {
+            var txn = new Transaction();
+            txn.setTransactionId(i);
+            txn.setAccountId(random.nextInt(5));
+            txn.setAmount(random.nextInt(4) * 100);
+
+            transactionEngine.addTransactionAndDetectFraud(txn);
+            trackedEngine.addTransactionAndDetectFraud(txn);
+            for (int accountId = 0; accountId < 5; accountId++) {
+                assertEquals(transactionEngine.getTransactionPatternAboveThresholdByAccount(accountId, 50),
+                        trackedEngine.getTransactionPatternAboveThresholdByAccount(accountId, 50));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test tracking a threshold after transactions were added")
+    void testTrackPatternAboveThreshold_AfterTransactions() {
+        transactionEngine.addTransactionAndDetectFraud(transaction1);
+        transactionEngine.addTransactionAndDetectFraud(transaction2);
+        transactionEngine.trackPatternAboveThreshold(50);
+        transactionEngine.addTransactionAndDetectFraud(transaction3);
+
+        assertEquals(100, transactionEngine.getTransactionPatternAboveThreshold(50));
+    }
+
+    @Test
+    @DisplayName("Test addTransactionsAndDetectFraud empty batch")
+    void testAddTransactionsAndDetectFraud_Empty() {
+        assertArrayEquals(new int[0], transactionEngine.addTransactionsAndDetectFraud(List.of()));
+    }
+
+    @Test
+    @DisplayName("Test addTransactionsAndDetectFraud with duplicates in the batch")
+    void testAddTransactionsAndDetectFraud_Duplicates() {
+        var fraudScores = transactionEngine.addTransactionsAndDetectFraud(List.of(transaction1, transaction2, transaction1, transaction5));
+
+        assertArrayEquals(new int[]{0, 0, 0, 150}, fraudScores);
+        assertEquals(3, transactionEngine.transactionHistory.size());
+    }
+
+    @Test
+    @DisplayName("Test addTransactionsAndDetectFraud matches sequential calls")
+    void testAddTransactionsAndDetectFraud_MatchesSequential() {
+        var sequentialEngine = new TransactionEngine();
+        var streamEngine = new TransactionEngine();
+        var random = new Random(11);
+        var txns = new ArrayList<Transaction>();
+
+        for (int i = 0; i < 3000; i++) {
+            var txn = new Transaction();
+            txn.setTransactionId(random.nextInt(2500));
+            txn.setAccountId(random.nextInt(10));
+            txn.setDebit(random.nextBoolean());
+            txn.setAmount(random.nextInt(3000));
+            txns.add(txn);
+        }
+
+        var expected = txns.stream().mapToInt(sequentialEngine::addTransactionAndDetectFraud).toArray();
+
+        assertArrayEquals(expected, transactionEngine.addTransactionsAndDetectFraud(txns));
+        assertArrayEquals(expected, streamEngine.addTransactionsAndDetectFraud(txns.stream()));
+        assertSameHistory(sequentialEngine.transactionHistory, transactionEngine.transactionHistory);
+        assertSameHistory(sequentialEngine.transactionHistory, streamEngine.transactionHistory);
+    }
+
+    @Test
+    @DisplayName("Test statistics window scores against recent transactions only")
+    void testUseStatisticsWindow() {
+        transactionEngine.addTransactionAndDetectFraud(transaction1);
+        transactionEngine.addTransactionAndDetectFraud(transaction2);
+        transactionEngine.addTransactionAndDetectFraud(transaction4);
+        transactionEngine.useStatisticsWindow(2);
+
+        assertEquals(155, transactionEngine.getAverageTransactionAmountByAccount(1));
+        assertEquals(0, transactionEngine.addTransactionAndDetectFraud(transaction5));
+        assertEquals(280, transactionEngine.getAverageTransactionAmountByAccount(1));
+        assertEquals(177, transactionEngine.getAccountStatistics(1).getAverageAmount());
+    }
+
+    @Test
+    @DisplayName("Test statistics window matches averaging the last transactions")
+    void testUseStatisticsWindow_MatchesRecentAverage() {
+        var windowSize = 5;
+        transactionEngine.useStatisticsWindow(windowSize);
+        var amountsByAccount = new ArrayList<List<Integer>>();
+        for (int accountId = 0; accountId < 4; accountId++) {
+            amountsByAccount.add(new ArrayList<>());
+        }
+        var random = new Random(23);
+
+        for (int i = 0; i < 2000; i++) {
+            var txn = new Transaction();
+            txn.setTransactionId(i);
+            txn.setAccountId(random.nextInt(4));
+            txn.setDebit(true);
+            txn.setAmount(random.nextInt(1000));
+
+            var amounts = amountsByAccount.get(txn.getAccountId());
+            var recent = amounts.subList(Math.max(0, amounts.size() - windowSize), amounts.size());
+            var average = recent.isEmpty() ? 0 : recent.stream().mapToInt(Integer::intValue).sum() / recent.size();
+            var expected = txn.getAmount() > 2 * average ? txn.getAmount() - 2 * average : 0;
+
+            assertEquals(expected, transactionEngine.detectFraudulentTransaction(txn));
+            transactionEngine.addTransactionAndDetectFraud(txn);
+            amounts.add(txn.getAmount());
+        }
+    }
+
+    @Test
+    @DisplayName("Test non-positive statistics window")
+    void testUseStatisticsWindow_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> transactionEngine.useStatisticsWindow(0));
+    }
+
+    static void assertSameHistory(TransactionHistory expected, TransactionHistory actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getTransactionId(i), actual.getTransactionId(i));
+            assertEquals(expected.getAccountId(i), actual.getAccountId(i));
+            assertEquals(expected.getAmount(i), actual.getAmount(i));
+            assertEquals(expected.isDebit(i), actual.isDebit(i));
+        }
+    }
 }
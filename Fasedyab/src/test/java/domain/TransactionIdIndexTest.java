@@ -0,0 +1,102 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TransactionIdIndexTest {
+
+    @Test
+    @DisplayName("Test add and contains")
+    void testAddAndContains() {
+        var index = new TransactionIdIndex();
+
+        assertTrue(index.add(1));
+        assertTrue(index.add(-7));
+        assertTrue(index.contains(1));
+        assertTrue(index.contains(-7));
+        assertFalse(index.contains(2));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Test add duplicate id")
+    void testAdd_Duplicate() {
+        var index = new TransactionIdIndex();
+
+        index.add(1);
+
+        assertFalse(index.add(1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Test unbounded index grows")
+    void testAdd_Growth() {
+        var index = new TransactionIdIndex();
+
+        for (int id = 0; id < 100_000; id++) {
+            assertTrue(index.add(id * 31));
+        }
+
+        assertEquals(100_000, index.size());
+        for (int id = 0; id < 100_000; id++) {
+            assertTrue(index.contains(id * 31));
+        }
+    }
+
+    @Test
+    @DisplayName("Test bounded index forgets ids that left the window")
+    void testAdd_WindowEviction() {
+        var index = new TransactionIdIndex(2);
+
+        index.add(1);
+        index.add(2);
+        index.add(3);
+
+        assertFalse(index.contains(1));
+        assertTrue(index.contains(2));
+        assertTrue(index.contains(3));
+        assertEquals(2, index.size());
+        assertTrue(index.add(1));
+    }
+
+    @Test
+    @DisplayName("Test bounded index matches a set over the same window")
+    void testAdd_WindowMatchesSet() {
+        var windowSize = 64;
+        var index = new TransactionIdIndex(windowSize);
+        var window = new ArrayDeque<Integer>();
+        var expected = new HashSet<Integer>();
+        var random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            var id = random.nextInt(500);
+            var added = expected.add(id);
+
+            assertEquals(added, index.add(id));
+            if (added) {
+                window.addLast(id);
+                if (window.size() > windowSize) {
+                    expected.remove(window.removeFirst());
+                }
+            }
+            assertEquals(expected.size(), index.size());
+        }
+
+        for (int id = 0; id < 500; id++) {
+            assertEquals(expected.contains(id), index.contains(id));
+        }
+    }
+
+    @Test
+    @DisplayName("Test negative window size")
+    void testConstructor_NegativeWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionIdIndex(-1));
+    }
+}
@@ -0,0 +1,184 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TransactionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    Path journalPath;
+
+    @BeforeEach
+    void setup() {
+        journalPath = directory.resolve("transactions.journal");
+    }
+
+    Transaction createTransaction(int transactionId, int accountId, int amount, boolean isDebit) {
+        var txn = new Transaction();
+        txn.setTransactionId(transactionId);
+        txn.setAccountId(accountId);
+        txn.setAmount(amount);
+        txn.setDebit(isDebit);
+        return txn;
+    }
+
+    @Test
+    @DisplayName("Test new journal is empty")
+    void testNewJournal() throws IOException {
+        try (var journal = new TransactionJournal(journalPath)) {
+            assertEquals(0, journal.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test records survive reopening")
+    void testAppend_Reopen() throws IOException {
+        try (var journal = new TransactionJournal(journalPath)) {
+            journal.append(createTransaction(1, 2, 300, true));
+            journal.append(createTransaction(4, 5, -600, false));
+        }
+
+        var records = new ArrayList<Transaction>();
+        try (var journal = new TransactionJournal(journalPath)) {
+            journal.forEach(records::add);
+        }
+
+        assertEquals(2, records.size());
+        assertEquals(1, records.get(0).getTransactionId());
+        assertEquals(2, records.get(0).getAccountId());
+        assertEquals(300, records.get(0).getAmount());
+        assertTrue(records.get(0).isDebit());
+        assertEquals(4, records.get(1).getTransactionId());
+        assertEquals(-600, records.get(1).getAmount());
+        assertFalse(records.get(1).isDebit());
+    }
+
+    @Test
+    @DisplayName("Test append grows the mapping")
+    void testAppend_Growth() throws IOException {
+        try (var journal = new TransactionJournal(journalPath)) {
+            for (int i = 0; i < 5000; i++) {
+                journal.append(createTransaction(i, i % 7, i, false));
+            }
+        }
+
+        try (var journal = new TransactionJournal(journalPath)) {
+            assertEquals(5000, journal.size());
+            var ids = new ArrayList<Integer>();
+            journal.forEach(txn -> ids.add(txn.getTransactionId()));
+            assertEquals(4999, ids.get(4999));
+        }
+    }
+
+    @Test
+    @DisplayName("Test records across many mapped segments survive reopening")
+    void testAppend_Segments() throws IOException {
+        try (var journal = new TransactionJournal(journalPath, 64)) {
+            for (int i = 0; i < 5000; i++) {
+                journal.append(createTransaction(i, i % 7, -i, i % 2 == 0));
+            }
+            assertTrue(journal.segments.length > 1000);
+        }
+
+        try (var journal = new TransactionJournal(journalPath, 4096)) {
+            assertEquals(5000, journal.size());
+            var next = new int[1];
+            journal.forEachRecord((transactionId, accountId, amount, isDebit) -> {
+                assertEquals(next[0], transactionId);
+                assertEquals(next[0] % 7, accountId);
+                assertEquals(-next[0], amount);
+                assertEquals(next[0] % 2 == 0, isDebit);
+                next[0]++;
+            });
+            assertEquals(5000, next[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test segment size must be a power of two")
+    void testOpen_InvalidSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionJournal(journalPath, 48));
+        assertThrows(IllegalArgumentException.class, () -> new TransactionJournal(journalPath, 16));
+    }
+
+    @Test
+    @DisplayName("Test opening a file that is not a journal")
+    void testOpen_NotAJournal() throws IOException {
+        Files.write(journalPath, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+
+        assertThrows(IOException.class, () -> new TransactionJournal(journalPath));
+    }
+
+    @Test
+    @DisplayName("Test engine recovers its state from the journal")
+    void testTransactionEngine_Recovery() throws IOException {
+        var uninterruptedEngine = new TransactionEngine();
+        var random = new Random(17);
+        var txns = new ArrayList<Transaction>();
+        for (int i = 0; i < 2000; i++) {
+            txns.add(createTransaction(random.nextInt(1500), random.nextInt(8), random.nextInt(2500), random.nextBoolean()));
+        }
+
+        try (var journal = new TransactionJournal(journalPath)) {
+            var transactionEngine = new TransactionEngine(journal);
+            for (Transaction txn : txns.subList(0, 1000)) {
+                assertEquals(uninterruptedEngine.addTransactionAndDetectFraud(txn), transactionEngine.addTransactionAndDetectFraud(txn));
+            }
+        }
+
+        try (var journal = new TransactionJournal(journalPath)) {
+            var recoveredEngine = new TransactionEngine(new ColumnarTransactionHistory(), TransactionIdIndex.UNBOUNDED, journal);
+
+            assertEquals(uninterruptedEngine.transactionHistory.size(), recoveredEngine.transactionHistory.size());
+            for (Transaction txn : txns.subList(1000, 2000)) {
+                assertEquals(uninterruptedEngine.addTransactionAndDetectFraud(txn), recoveredEngine.addTransactionAndDetectFraud(txn));
+            }
+            for (int accountId = 0; accountId < 8; accountId++) {
+                assertEquals(uninterruptedEngine.getAverageTransactionAmountByAccount(accountId),
+                        recoveredEngine.getAverageTransactionAmountByAccount(accountId));
+            }
+            assertEquals(uninterruptedEngine.transactionHistory.size(), journal.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test a transaction whose append failed is accepted on redelivery")
+    void testTransactionEngine_FailedAppend() throws IOException {
+        var failing = new boolean[]{true};
+        try (var journal = new TransactionJournal(journalPath) {
+            @Override
+            public void append(Transaction txn) {
+                if (failing[0]) {
+                    throw new UncheckedIOException(new IOException("Disk full"));
+                }
+                super.append(txn);
+            }
+        }) {
+            var transactionEngine = new TransactionEngine(journal);
+            var txn = createTransaction(1, 2, 300, true);
+
+            assertThrows(UncheckedIOException.class, () -> transactionEngine.addTransactionAndDetectFraud(txn));
+            assertEquals(0, transactionEngine.transactionHistory.size());
+            assertFalse(transactionEngine.transactionIds.contains(1));
+
+            failing[0] = false;
+            transactionEngine.addTransactionAndDetectFraud(txn);
+            assertEquals(1, transactionEngine.transactionHistory.size());
+            assertEquals(1, journal.size());
+            assertEquals(300, transactionEngine.getAverageTransactionAmountByAccount(2));
+        }
+    }
+}
@@ -39,4 +39,14 @@ public class TransactionTest {
     void testEquals_DifferentClass() {
         assertFalse(transaction.equals(new Object()));
     }
+
+    @Test
+    @DisplayName("Test hashCode consistent with equals")
+    void testHashCode_SameId() {
+        Transaction transaction2 = new Transaction();
+        transaction2.setTransactionId(1);
+        transaction2.setAmount(500);
+
+        assertEquals(transaction.hashCode(), transaction2.hashCode());
+    }
 }
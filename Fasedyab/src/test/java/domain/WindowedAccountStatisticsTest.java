@@ -0,0 +1,68 @@
+package domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class WindowedAccountStatisticsTest {
+
+    WindowedAccountStatistics windowedStatistics;
+
+    @BeforeEach
+    void setup() {
+        windowedStatistics = new WindowedAccountStatistics(3);
+    }
+
+    @Test
+    @DisplayName("Test empty window")
+    void testEmpty() {
+        assertEquals(0, windowedStatistics.getCount());
+        assertEquals(0, windowedStatistics.getAverageAmount());
+    }
+
+    @Test
+    @DisplayName("Test window not yet full")
+    void testAdd_PartialWindow() {
+        windowedStatistics.add(100);
+        windowedStatistics.add(50);
+
+        assertEquals(2, windowedStatistics.getCount());
+        assertEquals(75, windowedStatistics.getAverageAmount());
+    }
+
+    @Test
+    @DisplayName("Test oldest amounts expire")
+    void testAdd_Expiry() {
+        windowedStatistics.add(100);
+        windowedStatistics.add(50);
+        windowedStatistics.add(150);
+        windowedStatistics.add(400);
+        windowedStatistics.add(20);
+
+        assertEquals(3, windowedStatistics.getCount());
+        assertEquals(570, windowedStatistics.getTotalAmount());
+        assertEquals(190, windowedStatistics.getAverageAmount());
+    }
+
+    @Test
+    @DisplayName("Test large window grows its buffer")
+    void testAdd_Growth() {
+        windowedStatistics = new WindowedAccountStatistics(100);
+
+        for (int i = 1; i <= 250; i++) {
+            windowedStatistics.add(i);
+        }
+
+        assertEquals(100, windowedStatistics.getCount());
+        assertEquals(200, windowedStatistics.getAverageAmount());
+        assertEquals(100, windowedStatistics.getAmounts().length);
+    }
+
+    @Test
+    @DisplayName("Test non-positive window size")
+    void testConstructor_InvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new WindowedAccountStatistics(0));
+    }
+}
@@ -0,0 +1,50 @@
+package mizdooni.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// String.matches recompiles its pattern on every call; the scanners should beat even a precompiled Pattern
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final String USERNAME_REGEX = "^\\w+$";
+    private static final String EMAIL_REGEX = "^\\w+@\\w+\\.\\w+$";
+    private static final Pattern USERNAME_PATTERN = Pattern.compile(USERNAME_REGEX);
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+
+    @Param({"mehdi_1380", "not a username!"})
+    String username;
+
+    @Param({"mehdi_1380@gmail.com", "mehdi.1380@gmail.com"})
+    String email;
+
+    @Benchmark
+    public boolean stringMatches() {
+        return username.matches(USERNAME_REGEX) & email.matches(EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return USERNAME_PATTERN.matcher(username).matches() & EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean scanner() {
+        return ServiceUtils.validateUsername(username) & ServiceUtils.validateEmail(email);
+    }
+}
@@ -0,0 +1,15 @@
+package mizdooni.config;
+
+import mizdooni.model.PasswordHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PasswordConfig {
+    @Bean
+    public PasswordHasher passwordHasher(
+            @Value("${mizdooni.password.iterations:" + PasswordHasher.DEFAULT_ITERATIONS + "}") int iterations) {
+        return new PasswordHasher(iterations);
+    }
+}
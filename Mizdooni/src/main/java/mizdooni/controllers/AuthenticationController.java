@@ -1,9 +1,11 @@
 package mizdooni.controllers;
 
+import mizdooni.filters.LoginRequired;
 import mizdooni.model.Address;
 import mizdooni.model.User;
 import mizdooni.response.Response;
 import mizdooni.response.ResponseException;
+import mizdooni.service.LoginExecutor;
 import mizdooni.service.ServiceUtils;
 import mizdooni.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,14 +13,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import static mizdooni.controllers.ControllerUtils.PARAMS_BAD_TYPE;
 import static mizdooni.controllers.ControllerUtils.PARAMS_MISSING;
 
 @RestController
 public class AuthenticationController {
+    static final String LOGIN_BUSY = "too many login attempts, try again later";
+
     @Autowired
     private UserService userService;
+    @Autowired
+    private LoginExecutor loginExecutor;
 
     @GetMapping("/user")
     public Response user() {
@@ -38,12 +45,25 @@ public class AuthenticationController {
             throw new ResponseException(HttpStatus.BAD_REQUEST, PARAMS_MISSING);
         }
 
-        if (userService.login(username, password)) {
+        boolean loggedIn;
+        try {
+            loggedIn = userService.login(username, password);
+        } catch (RejectedExecutionException ex) {
+            throw new ResponseException(HttpStatus.SERVICE_UNAVAILABLE, LOGIN_BUSY);
+        }
+        if (loggedIn) {
+            ControllerUtils.sendAuthToken(userService.getCurrentToken());
             return Response.ok("login successful", userService.getCurrentUser());
         }
         throw new ResponseException(HttpStatus.UNAUTHORIZED, "invalid username or password");
     }
 
+    @LoginRequired
+    @GetMapping("/login/metrics")
+    public Response loginMetrics() {
+        return Response.ok("login metrics", loginExecutor.getMetrics());
+    }
+
     @PostMapping("/signup")
     public Response signup(@RequestBody Map<String, Object> params) {
         if (!ControllerUtils.containsKeys(params, "username", "password", "email", "address", "role")) {
@@ -71,8 +91,10 @@ public class AuthenticationController {
 
         try {
             userService.signup(username, password, email, address, role);
-            userService.login(username, password);
+            ControllerUtils.sendAuthToken(userService.getCurrentToken());
             return Response.ok("signup successful", userService.getCurrentUser());
+        } catch (RejectedExecutionException ex) {
+            throw new ResponseException(HttpStatus.SERVICE_UNAVAILABLE, LOGIN_BUSY);
         } catch (Exception ex) {
             throw new ResponseException(HttpStatus.BAD_REQUEST, ex);
         }
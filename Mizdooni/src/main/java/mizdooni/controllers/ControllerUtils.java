@@ -1,10 +1,14 @@
 package mizdooni.controllers;
 
+import mizdooni.filters.AuthInterceptor;
 import mizdooni.model.Restaurant;
 import mizdooni.response.ResponseException;
 import mizdooni.service.RestaurantService;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
@@ -38,6 +42,14 @@ public class ControllerUtils {
         return true;
     }
 
+    static void sendAuthToken(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (token != null && attributes instanceof ServletRequestAttributes servletAttributes
+                && servletAttributes.getResponse() != null) {
+            servletAttributes.getResponse().setHeader(AuthInterceptor.TOKEN_HEADER, token);
+        }
+    }
+
     static Restaurant checkRestaurant(int restaurantId, RestaurantService service) {
         Restaurant restaurant = service.getRestaurant(restaurantId);
         if (restaurant == null) {
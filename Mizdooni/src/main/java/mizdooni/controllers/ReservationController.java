@@ -1,20 +1,25 @@
 package mizdooni.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import mizdooni.filters.LoginRequired;
 import mizdooni.model.Reservation;
 import mizdooni.response.Response;
 import mizdooni.response.ResponseException;
+import mizdooni.response.StreamingResponse;
 import mizdooni.service.ReservationService;
 import mizdooni.service.RestaurantService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static mizdooni.controllers.ControllerUtils.*;
 
@@ -25,6 +30,8 @@ public class ReservationController {
     private RestaurantService restaurantService;
     @Autowired
     private ReservationService reserveService;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @GetMapping("/reserves/{restaurantId}")
     public Response getReservations(@PathVariable int restaurantId,
@@ -47,6 +54,27 @@ public class ReservationController {
         }
     }
 
+    @GetMapping(value = "/reserves/{restaurantId}", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamReservations(@PathVariable int restaurantId,
+                                                                    @RequestParam int table,
+                                                                    @RequestParam(required = false) String date) {
+        ControllerUtils.checkRestaurant(restaurantId, restaurantService);
+        LocalDate localDate = null;
+        if (date != null) {
+            try {
+                localDate = LocalDate.parse(date, DATE_FORMATTER);
+            } catch (Exception ex) {
+                throw new ResponseException(HttpStatus.BAD_REQUEST, PARAMS_BAD_TYPE);
+            }
+        }
+        try {
+            Stream<Reservation> reservations = reserveService.streamReservations(restaurantId, table, localDate);
+            return StreamingResponse.ok(objectMapper, "restaurant table reservations", reservations);
+        } catch (Exception ex) {
+            throw new ResponseException(HttpStatus.BAD_REQUEST, ex);
+        }
+    }
+
     @GetMapping("/reserves/customer/{customerId}")
     public Response getCustomerReservations(@PathVariable int customerId) {
         try {
@@ -3,6 +3,7 @@ package mizdooni.controllers;
 import mizdooni.model.Address;
 import mizdooni.model.Restaurant;
 import mizdooni.model.RestaurantSearchFilter;
+import mizdooni.response.CursorList;
 import mizdooni.response.PagedList;
 import mizdooni.response.Response;
 import mizdooni.response.ResponseException;
@@ -39,6 +40,16 @@ class RestaurantController {
         }
     }
 
+    @GetMapping(value = "/restaurants", params = "cursor")
+    public Response getRestaurantsAfter(@RequestParam String cursor, RestaurantSearchFilter filter) {
+        try {
+            CursorList<Restaurant> restaurants = restaurantService.getRestaurantsAfter(cursor, filter);
+            return Response.ok("restaurants listed", restaurants);
+        } catch (Exception ex) {
+            throw new ResponseException(HttpStatus.BAD_REQUEST, ex);
+        }
+    }
+
     @GetMapping("/restaurants/manager/{managerId}")
     public Response getManagerRestaurants(@PathVariable int managerId) {
         try {
@@ -8,9 +8,11 @@ import java.time.LocalTime;
 
 public class DataLoader {
     private Database db;
+    private PasswordHasher passwordHasher;
 
-    public DataLoader(Database database) {
+    public DataLoader(Database database, PasswordHasher passwordHasher) {
         db = database;
+        this.passwordHasher = passwordHasher;
     }
 
     public void read() {
@@ -30,14 +32,14 @@ public class DataLoader {
             String role = node.get("role").asText();
             String country = node.get("address").get("country").asText();
             String city = node.get("address").get("city").asText();
-            User user = new User(
+            User user = User.withPasswordHash(
                     node.get("username").asText(),
-                    node.get("password").asText(),
+                    passwordHasher.hash(node.get("password").asText()),
                     node.get("email").asText(),
                     new Address(country, city, null),
                     User.Role.valueOf(role)
             );
-            db.users.add(user);
+            db.addUser(user);
         }
     }
 
@@ -67,7 +69,7 @@ public class DataLoader {
                     new Address(country, city, street),
                     node.get("image").asText()
             );
-            db.restaurants.add(restaurant);
+            db.addRestaurant(restaurant);
         }
     }
 
@@ -105,14 +107,15 @@ public class DataLoader {
 
             String comment = node.get("comment").asText();
             restaurant.addReview(new Review(user, rating, comment, LocalDateTime.now()));
+            db.restaurantRatingChanged(restaurant);
         }
     }
 
     private User getUserByUsername(String username) {
-        return db.users.stream().filter(u -> u.getUsername().equals(username)).findFirst().orElse(null);
+        return db.findUserByUsername(username);
     }
 
     private Restaurant getRestaurantByName(String name) {
-        return db.restaurants.stream().filter(r -> r.getName().equals(name)).findFirst().orElse(null);
+        return db.findRestaurantByName(name);
     }
 }
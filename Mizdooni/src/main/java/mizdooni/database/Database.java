@@ -1,20 +1,124 @@
 package mizdooni.database;
 
+import mizdooni.model.PasswordHasher;
 import mizdooni.model.Restaurant;
+import mizdooni.model.RestaurantSearchFilter;
 import mizdooni.model.User;
+import mizdooni.util.AppendOnlyList;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class Database {
-    public List<User> users;
-    public List<Restaurant> restaurants;
+    private final Object usersLock = new Object();
+    private final Object restaurantsLock = new Object();
 
-    public Database() {
-        users = new ArrayList<>();
-        restaurants = new ArrayList<>();
-        new DataLoader(this).read();
+    private final AppendOnlyList<User> users;
+    private final AppendOnlyList<Restaurant> restaurants;
+
+    private Map<Integer, User> usersById;
+    private Map<String, User> usersByUsername;
+    private Map<String, User> usersByEmail;
+    private Map<Integer, Restaurant> restaurantsById;
+    private Map<String, Restaurant> restaurantsByName;
+    private Map<Integer, AppendOnlyList<Restaurant>> restaurantsByManagerId;
+    private RestaurantSearchIndex restaurantSearchIndex;
+
+    @Autowired
+    public Database(PasswordHasher passwordHasher) {
+        users = new AppendOnlyList<>();
+        restaurants = new AppendOnlyList<>();
+        usersById = new ConcurrentHashMap<>();
+        usersByUsername = new ConcurrentHashMap<>();
+        usersByEmail = new ConcurrentHashMap<>();
+        restaurantsById = new ConcurrentHashMap<>();
+        restaurantsByName = new ConcurrentHashMap<>();
+        restaurantsByManagerId = new ConcurrentHashMap<>();
+        restaurantSearchIndex = new RestaurantSearchIndex();
+        new DataLoader(this, passwordHasher).read();
+    }
+
+    public boolean addUser(User user) {
+        synchronized (usersLock) {
+            if (usersByUsername.containsKey(user.getUsername()) || usersByEmail.containsKey(user.getEmail())) {
+                return false;
+            }
+            usersById.put(user.getId(), user);
+            usersByUsername.put(user.getUsername(), user);
+            usersByEmail.put(user.getEmail(), user);
+            users.add(user);
+            return true;
+        }
+    }
+
+    public boolean addRestaurant(Restaurant restaurant) {
+        synchronized (restaurantsLock) {
+            if (restaurantsByName.containsKey(restaurant.getName())) {
+                return false;
+            }
+            restaurantsById.put(restaurant.getId(), restaurant);
+            restaurantsByName.put(restaurant.getName(), restaurant);
+            if (restaurant.getManager() != null) {
+                int managerId = restaurant.getManager().getId();
+                restaurantsByManagerId.computeIfAbsent(managerId, id -> new AppendOnlyList<>()).add(restaurant);
+            }
+            restaurants.add(restaurant);
+            restaurantSearchIndex.add(restaurant);
+            return true;
+        }
+    }
+
+    public List<User> getUsers() {
+        return users.view();
+    }
+
+    public List<Restaurant> getRestaurants() {
+        return restaurants.view();
+    }
+
+    public User findUser(int id) {
+        return usersById.get(id);
+    }
+
+    public User findUserByUsername(String username) {
+        return usersByUsername.get(username);
+    }
+
+    public User findUserByEmail(String email) {
+        return usersByEmail.get(email);
+    }
+
+    public Restaurant findRestaurant(int id) {
+        return restaurantsById.get(id);
+    }
+
+    public Restaurant findRestaurantByName(String name) {
+        return restaurantsByName.get(name);
+    }
+
+    public List<Restaurant> findManagerRestaurants(int managerId) {
+        AppendOnlyList<Restaurant> managed = restaurantsByManagerId.get(managerId);
+        return managed == null ? Collections.emptyList() : managed.view();
+    }
+
+    public RestaurantSearchIndex.Result searchRestaurants(RestaurantSearchFilter filter, int limit) {
+        return restaurantSearchIndex.search(filter, limit);
+    }
+
+    public List<Restaurant> searchRestaurantsAfter(RestaurantSearchFilter filter, long[] cursor, int limit) {
+        return restaurantSearchIndex.searchAfter(filter, cursor, limit);
+    }
+
+    public long[] restaurantCursor(RestaurantSearchFilter filter, Restaurant restaurant) {
+        return restaurantSearchIndex.cursorOf(filter, restaurant);
+    }
+
+    public void restaurantRatingChanged(Restaurant restaurant) {
+        restaurantSearchIndex.ratingChanged(restaurant);
     }
 }
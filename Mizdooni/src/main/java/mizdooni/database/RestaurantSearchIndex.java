@@ -0,0 +1,395 @@
+package mizdooni.database;
+
+import mizdooni.model.Restaurant;
+import mizdooni.model.RestaurantSearchFilter;
+import mizdooni.util.AppendOnlyList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+public class RestaurantSearchIndex {
+    static final int NAME_GRAM_LENGTH = 3;
+
+    private final Object lock = new Object();
+
+    private final AppendOnlyList<Restaurant> restaurants;
+    private Map<String, AppendOnlyList<Restaurant>> restaurantsByType;
+    private Map<String, AppendOnlyList<Restaurant>> restaurantsByCity;
+    private Map<String, AppendOnlyList<Restaurant>> restaurantsByNameGram;
+    private Map<Restaurant, Integer> positions;
+
+    // indexed by ordering(filter); null until the first sorted query
+    private volatile Ordering[] orderings;
+
+    public RestaurantSearchIndex() {
+        restaurants = new AppendOnlyList<>();
+        restaurantsByType = new ConcurrentHashMap<>();
+        restaurantsByCity = new ConcurrentHashMap<>();
+        restaurantsByNameGram = new ConcurrentHashMap<>();
+        positions = new ConcurrentHashMap<>();
+    }
+
+    public void add(Restaurant restaurant) {
+        synchronized (lock) {
+            positions.put(restaurant, restaurants.size());
+            restaurants.add(restaurant);
+            addPosting(restaurantsByType, restaurant.getType(), restaurant);
+            if (restaurant.getAddress() != null) {
+                addPosting(restaurantsByCity, restaurant.getAddress().getCity(), restaurant);
+            }
+            for (String gram : nameGrams(restaurant.getName())) {
+                addPosting(restaurantsByNameGram, gram, restaurant);
+            }
+            reposition(restaurant);
+        }
+    }
+
+    public void ratingChanged(Restaurant restaurant) {
+        synchronized (lock) {
+            reposition(restaurant);
+        }
+    }
+
+    private void reposition(Restaurant restaurant) {
+        Ordering[] current = orderings;
+        if (current == null) {
+            return;
+        }
+        int position = positions.get(restaurant);
+        for (int i = 1; i < current.length; i++) {
+            current[i].place(restaurant, sortKey(i, restaurant), position);
+        }
+    }
+
+    public List<Restaurant> search(RestaurantSearchFilter filter) {
+        return search(filter, Integer.MAX_VALUE).getRestaurants();
+    }
+
+    public Result search(RestaurantSearchFilter filter, int limit) {
+        List<Restaurant> all = restaurants.view();
+        List<Restaurant> candidates = candidates(filter, all);
+        Predicate<Restaurant> matches = matcher(filter);
+
+        int ordering = ordering(filter);
+        if (ordering == 0) {
+            return firstMatches(candidates, matches, limit);
+        }
+        if (candidates.size() * 4 < all.size()) {
+            return topMatches(candidates, matches, ordering, limit);
+        }
+        return sortedOrder(ordering).firstMatches(matches, limit);
+    }
+
+    public List<Restaurant> searchAfter(RestaurantSearchFilter filter, long[] cursor, int limit) {
+        if (cursor != null && (cursor.length != 3 || cursor[0] != ordering(filter))) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        Predicate<Restaurant> matches = matcher(filter);
+        int ordering = ordering(filter);
+        if (ordering == 0) {
+            List<Restaurant> ordered = candidates(filter, restaurants.view());
+            int from = cursor == null ? 0 : firstAfterPosition(ordered, cursor[1]);
+            return page(ordered.subList(from, ordered.size()), matches, limit);
+        }
+        Ordering sorted = sortedOrder(ordering);
+        if (cursor == null) {
+            return sorted.firstPage(matches, limit);
+        }
+        return sorted.pageAfter(Double.longBitsToDouble(cursor[2]), cursor[1], matches, limit);
+    }
+
+    public long[] cursorOf(RestaurantSearchFilter filter, Restaurant restaurant) {
+        int ordering = ordering(filter);
+        return new long[] { ordering, positions.get(restaurant), Double.doubleToLongBits(sortKey(ordering, restaurant)) };
+    }
+
+    private int firstAfterPosition(List<Restaurant> ordered, long position) {
+        int low = 0;
+        int high = ordered.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positions.get(ordered.get(mid)) > position) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private List<Restaurant> candidates(RestaurantSearchFilter filter, List<Restaurant> all) {
+        List<Restaurant> candidates = all;
+        if (filter.getType() != null) {
+            candidates = smaller(candidates, postings(restaurantsByType, filter.getType()));
+        }
+        if (filter.getLocation() != null) {
+            candidates = smaller(candidates, postings(restaurantsByCity, filter.getLocation()));
+        }
+        if (filter.getName() != null) {
+            candidates = smaller(candidates, nameCandidates(filter.getName(), all));
+        }
+        return candidates;
+    }
+
+    private static Predicate<Restaurant> matcher(RestaurantSearchFilter filter) {
+        return r -> (filter.getName() == null || r.getName().contains(filter.getName())) &&
+                (filter.getType() == null || r.getType().equals(filter.getType())) &&
+                (filter.getLocation() == null || r.getAddress().getCity().equals(filter.getLocation()));
+    }
+
+    private static Result firstMatches(Iterable<Restaurant> ordered, Predicate<Restaurant> matches, int limit) {
+        List<Restaurant> head = new ArrayList<>();
+        int total = 0;
+        for (Restaurant r : ordered) {
+            if (matches.test(r)) {
+                if (total < limit) {
+                    head.add(r);
+                }
+                total++;
+            }
+        }
+        return new Result(head, total);
+    }
+
+    private static List<Restaurant> page(Iterable<Restaurant> ordered, Predicate<Restaurant> matches, int limit) {
+        List<Restaurant> page = new ArrayList<>();
+        for (Restaurant r : ordered) {
+            if (page.size() >= limit) {
+                break;
+            }
+            if (matches.test(r)) {
+                page.add(r);
+            }
+        }
+        return page;
+    }
+
+    private static Result topMatches(List<Restaurant> candidates, Predicate<Restaurant> matches,
+                                     int ordering, int limit) {
+        // keys are read once so ratings changing mid-query can't reorder the heap
+        double[] keys = new double[candidates.size()];
+        int direction = direction(ordering);
+        Comparator<Integer> order = (i, j) -> {
+            int c = direction * Double.compare(keys[i], keys[j]);
+            return c != 0 ? c : Integer.compare(i, j);
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(order.reversed());
+        int total = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!matches.test(candidates.get(i))) {
+                continue;
+            }
+            keys[i] = sortKey(ordering, candidates.get(i));
+            total++;
+            if (heap.size() < limit) {
+                heap.add(i);
+            } else if (limit > 0 && order.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        Restaurant[] head = new Restaurant[heap.size()];
+        for (int i = head.length - 1; i >= 0; i--) {
+            head[i] = candidates.get(heap.poll());
+        }
+        return new Result(Arrays.asList(head), total);
+    }
+
+    private List<Restaurant> nameCandidates(String name, List<Restaurant> all) {
+        if (name.isEmpty()) {
+            return all;
+        }
+        if (name.length() < NAME_GRAM_LENGTH) {
+            return postings(restaurantsByNameGram, name);
+        }
+        List<Restaurant> candidates = all;
+        for (int i = 0; i + NAME_GRAM_LENGTH <= name.length(); i++) {
+            candidates = smaller(candidates, postings(restaurantsByNameGram, name.substring(i, i + NAME_GRAM_LENGTH)));
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private Ordering sortedOrder(int ordering) {
+        Ordering[] current = orderings;
+        if (current == null) {
+            current = buildOrderings();
+        }
+        return current[ordering];
+    }
+
+    private Ordering[] buildOrderings() {
+        synchronized (lock) {
+            if (orderings != null) {
+                return orderings;
+            }
+            List<Restaurant> all = restaurants.view();
+            Ordering[] built = new Ordering[5];
+            for (int i = 1; i < built.length; i++) {
+                built[i] = Ordering.build(direction(i), all, i);
+            }
+            orderings = built;
+            return built;
+        }
+    }
+
+    private static int ordering(RestaurantSearchFilter filter) {
+        int ordering;
+        if ("rating".equals(filter.getSort())) {
+            ordering = 1;
+        } else if ("reviews".equals(filter.getSort())) {
+            ordering = 3;
+        } else {
+            return 0;
+        }
+        return "asc".equals(filter.getOrder()) ? ordering : ordering + 1;
+    }
+
+    private static int direction(int ordering) {
+        return ordering % 2 == 1 ? 1 : -1;
+    }
+
+    private static double sortKey(int ordering, Restaurant restaurant) {
+        if (ordering == 1 || ordering == 2) {
+            return restaurant.getAverageRating().overall;
+        }
+        if (ordering == 3 || ordering == 4) {
+            return restaurant.getReviewCount();
+        }
+        return 0;
+    }
+
+    private static Set<String> nameGrams(String name) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= NAME_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= name.length(); i++) {
+                grams.add(name.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static List<Restaurant> smaller(List<Restaurant> a, List<Restaurant> b) {
+        return a.size() <= b.size() ? a : b;
+    }
+
+    private static void addPosting(Map<String, AppendOnlyList<Restaurant>> index, String key, Restaurant restaurant) {
+        if (key == null) {
+            return;
+        }
+        index.computeIfAbsent(key, k -> new AppendOnlyList<>()).add(restaurant);
+    }
+
+    private static List<Restaurant> postings(Map<String, AppendOnlyList<Restaurant>> index, String key) {
+        AppendOnlyList<Restaurant> postings = index.get(key);
+        return postings == null ? Collections.emptyList() : postings.view();
+    }
+
+    public static class Result {
+        private final List<Restaurant> restaurants;
+        private final int total;
+
+        Result(List<Restaurant> restaurants, int total) {
+            this.restaurants = restaurants;
+            this.total = total;
+        }
+
+        public List<Restaurant> getRestaurants() {
+            return restaurants;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+
+    private record Entry(Restaurant restaurant, double key, long position) {
+    }
+
+    // Restaurants sorted by the key captured when each was placed, so a rating changing mid-query can't
+    // reorder the set; ties keep insertion order. Moving a restaurant is O(log n). Scans share a read lock,
+    // so a concurrent move never makes a scan see a restaurant twice or not at all.
+    private static final class Ordering {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableSet<Entry> entries;
+        private final Map<Restaurant, Entry> entryByRestaurant = new HashMap<>();
+
+        Ordering(int direction) {
+            entries = new TreeSet<>((a, b) -> {
+                int c = direction * Double.compare(a.key(), b.key());
+                return c != 0 ? c : Long.compare(a.position(), b.position());
+            });
+        }
+
+        static Ordering build(int direction, List<Restaurant> all, int ordering) {
+            Ordering built = new Ordering(direction);
+            for (int i = 0; i < all.size(); i++) {
+                built.place(all.get(i), sortKey(ordering, all.get(i)), i);
+            }
+            return built;
+        }
+
+        void place(Restaurant restaurant, double key, int position) {
+            Entry entry = new Entry(restaurant, key, position);
+            lock.writeLock().lock();
+            try {
+                Entry previous = entryByRestaurant.put(restaurant, entry);
+                if (previous != null) {
+                    entries.remove(previous);
+                }
+                entries.add(entry);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Result firstMatches(Predicate<Restaurant> matches, int limit) {
+            lock.readLock().lock();
+            try {
+                return RestaurantSearchIndex.firstMatches(restaurants(entries), matches, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Restaurant> pageAfter(double key, long position, Predicate<Restaurant> matches, int limit) {
+            lock.readLock().lock();
+            try {
+                return page(restaurants(entries.tailSet(new Entry(null, key, position), false)), matches, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Restaurant> firstPage(Predicate<Restaurant> matches, int limit) {
+            lock.readLock().lock();
+            try {
+                return page(restaurants(entries), matches, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private static Iterable<Restaurant> restaurants(Collection<Entry> entries) {
+            return () -> entries.stream().map(Entry::restaurant).iterator();
+        }
+    }
+}
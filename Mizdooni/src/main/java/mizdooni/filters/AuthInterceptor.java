@@ -6,11 +6,13 @@ import mizdooni.response.ResponseException;
 import mizdooni.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import java.lang.reflect.Method;
 
-public class AuthInterceptor implements HandlerInterceptor {
+public class AuthInterceptor implements AsyncHandlerInterceptor {
+    public static final String TOKEN_HEADER = "X-Auth-Token";
+
     private UserService userService;
 
     public AuthInterceptor(UserService userService) {
@@ -22,6 +24,7 @@ public class AuthInterceptor implements HandlerInterceptor {
         if (!(handler instanceof HandlerMethod)) {
             return true;
         }
+        userService.authenticate(request.getHeader(TOKEN_HEADER));
         Method method = ((HandlerMethod) handler).getMethod();
         if (!method.isAnnotationPresent(LoginRequired.class) &&
                 !method.getDeclaringClass().isAnnotationPresent(LoginRequired.class)) {
@@ -32,4 +35,14 @@ public class AuthInterceptor implements HandlerInterceptor {
         }
         return true;
     }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        userService.clearCurrentUser();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        userService.clearCurrentUser();
+    }
 }
@@ -21,6 +21,9 @@ public class Reservation {
 
     public void cancel() {
         this.cancelled = true;
+        if (table != null) {
+            table.releaseReservation(this);
+        }
     }
 
     public boolean isCancelled() {
@@ -1,11 +1,24 @@
 package mizdooni.model;
 
+import mizdooni.util.AppendOnlyList;
+
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Restaurant {
-    private static int idCounter = 0;
+    private static final AtomicInteger idCounter = new AtomicInteger();
+    // sums are kept in millionths of a point so replacing reviews can't accumulate rounding error
+    private static final long RATING_SCALE = 1_000_000;
+    private static final int REVIEW_COMPACTION_THRESHOLD = 32;
     private int id;
     private String name;
     private User manager;
@@ -15,12 +28,24 @@ public class Restaurant {
     private String description;
     private Address address;
     private String imageLink;
-    private List<Table> tables;
-    private List<Review> reviews;
+    private AppendOnlyList<Table> tables;
+    private volatile NavigableMap<Integer, List<Table>> tablesBySeats;
+    // dense view of the live reviews; null once a replacement leaves it stale, rebuilt on the next read
+    private AppendOnlyList<Review> reviews;
+    private List<Review> reviewLog;
+    private BitSet replacedReviews;
+    private Map<User, Integer> reviewIndexByUser;
+    private int removedReviews;
+    private int nextReviewSequence;
+    private long foodSum;
+    private long serviceSum;
+    private long ambianceSum;
+    private long overallSum;
+    private volatile Rating averageRating;
 
     public Restaurant(String name, User manager, String type, LocalTime startTime, LocalTime endTime,
                       String description, Address address, String imageLink) {
-        this.id = idCounter++;
+        this.id = idCounter.getAndIncrement();
         this.name = name;
         this.manager = manager;
         this.type = type;
@@ -29,59 +54,137 @@ public class Restaurant {
         this.description = description;
         this.address = address;
         this.imageLink = imageLink;
-        this.tables = new ArrayList<>();
-        this.reviews = new ArrayList<>();
+        this.tables = new AppendOnlyList<>();
+        this.tablesBySeats = Collections.emptyNavigableMap();
+        this.reviews = new AppendOnlyList<>();
+        this.reviewLog = new ArrayList<>();
+        this.replacedReviews = new BitSet();
+        this.reviewIndexByUser = new HashMap<>();
+        this.removedReviews = 0;
+        this.nextReviewSequence = 0;
+        this.averageRating = new Rating();
     }
 
     public Table getTable(int tableNumber) {
-        return tables.stream().filter(t -> t.getTableNumber() == tableNumber).findFirst().orElse(null);
+        return tables.view().stream().filter(t -> t.getTableNumber() == tableNumber).findFirst().orElse(null);
     }
 
-    public void addTable(Table table) {
+    public synchronized void addTable(Table table) {
         table.setTableNumber(tables.size() + 1);
         tables.add(table);
+
+        NavigableMap<Integer, List<Table>> bySeats = new TreeMap<>(tablesBySeats);
+        List<Table> bucket = new ArrayList<>(bySeats.getOrDefault(table.getSeatsNumber(), List.of()));
+        bucket.add(table);
+        bySeats.put(table.getSeatsNumber(), Collections.unmodifiableList(bucket));
+        tablesBySeats = Collections.unmodifiableNavigableMap(bySeats);
     }
 
-    public void addReview(Review review) {
-        for (Review r : reviews) {
-            if (r.getUser().equals(review.getUser())) {
-                reviews.remove(r);
-                break;
-            }
+    public Collection<List<Table>> getTablesWithSeatsAtLeast(int seats) {
+        return tablesBySeats.tailMap(seats, true).values();
+    }
+
+    public synchronized void addReview(Review review) {
+        Integer previous = reviewIndexByUser.put(review.getUser(), reviewLog.size());
+        if (previous != null) {
+            replacedReviews.set(previous);
+            removedReviews++;
+            accumulateRating(reviewLog.get(previous).getRating(), -1);
+            reviews = null;
+        }
+        review.setSequence(nextReviewSequence++);
+        reviewLog.add(review);
+        if (reviews != null) {
+            reviews.add(review);
+        }
+        accumulateRating(review.getRating(), 1);
+        updateAverageRating();
+        if (removedReviews > REVIEW_COMPACTION_THRESHOLD && removedReviews > getReviewCount()) {
+            compactReviewLog();
         }
-        reviews.add(review);
     }
 
-    public Rating getAverageRating() {
-        Rating average = new Rating();
+    // runs once tombstones outnumber live reviews, so its cost is amortized over the replacements that made them
+    private void compactReviewLog() {
+        List<Review> live = liveReviews();
+        for (int i = 0; i < live.size(); i++) {
+            reviewIndexByUser.put(live.get(i).getUser(), i);
+        }
+        reviewLog = live;
+        // the compacted log is exactly the dense list, so the next read has nothing to rebuild
+        reviews = new AppendOnlyList<>();
+        reviews.addAll(live);
+        replacedReviews.clear();
+        removedReviews = 0;
+    }
+
+    private List<Review> liveReviews() {
+        List<Review> live = new ArrayList<>(getReviewCount());
+        for (int i = replacedReviews.nextClearBit(0); i < reviewLog.size(); i = replacedReviews.nextClearBit(i + 1)) {
+            live.add(reviewLog.get(i));
+        }
+        return live;
+    }
+
+    public synchronized List<Review> getReviewsAfter(int sequence, int limit) {
+        int low = 0;
+        int high = reviewLog.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (reviewLog.get(mid).getSequence() > sequence) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
 
-        for (Review r : reviews) {
-            average.food += r.getRating().food;
-            average.service += r.getRating().service;
-            average.ambiance += r.getRating().ambiance;
-            average.overall += r.getRating().overall;
+        List<Review> page = new ArrayList<>(Math.min(limit, getReviewCount()));
+        for (int i = replacedReviews.nextClearBit(low); i < reviewLog.size() && page.size() < limit;
+             i = replacedReviews.nextClearBit(i + 1)) {
+            page.add(reviewLog.get(i));
         }
+        return page;
+    }
 
-        if (!reviews.isEmpty()) {
-            average.food /= reviews.size();
-            average.service /= reviews.size();
-            average.ambiance /= reviews.size();
-            average.overall /= reviews.size();
+    private void accumulateRating(Rating rating, int sign) {
+        if (rating == null) {
+            return;
         }
+        foodSum += sign * scaled(rating.food);
+        serviceSum += sign * scaled(rating.service);
+        ambianceSum += sign * scaled(rating.ambiance);
+        overallSum += sign * scaled(rating.overall);
+    }
 
-        return average;
+    private static long scaled(double value) {
+        return Math.round(value * RATING_SCALE);
+    }
+
+    private void updateAverageRating() {
+        double divisor = (double) getReviewCount() * RATING_SCALE;
+        averageRating = new Rating(foodSum / divisor, serviceSum / divisor,
+                ambianceSum / divisor, overallSum / divisor);
+    }
+
+    public Rating getAverageRating() {
+        return averageRating;
     }
 
     public int getStarCount() {
-        return getAverageRating().getStarCount();
+        return averageRating.getStarCount();
+    }
+
+    public synchronized int getReviewCount() {
+        return reviewLog.size() - removedReviews;
     }
 
     public int getMaxSeatsNumber() {
-        return tables.stream().map(Table::getSeatsNumber).max(Integer::compareTo).orElse(0);
+        NavigableMap<Integer, List<Table>> bySeats = tablesBySeats;
+        return bySeats.isEmpty() ? 0 : bySeats.lastKey();
     }
 
     public List<Table> getTables() {
-        return tables;
+        return tables.view();
     }
 
     public int getId() {
@@ -112,7 +215,11 @@ public class Restaurant {
         return address;
     }
 
-    public List<Review> getReviews() {
-        return reviews;
+    public synchronized List<Review> getReviews() {
+        if (reviews == null) {
+            reviews = new AppendOnlyList<>();
+            reviews.addAll(liveReviews());
+        }
+        return reviews.view();
     }
 }
@@ -1,10 +1,5 @@
 package mizdooni.model;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
-
 public class RestaurantSearchFilter {
     private String name;
     private String type;
@@ -12,33 +7,24 @@ public class RestaurantSearchFilter {
     private String sort;
     private String order;
 
-    public List<Restaurant> filter(List<Restaurant> restaurants) {
-        List<Restaurant> rest = new ArrayList<>(restaurants);
-        if (name != null) {
-            rest = rest.stream().filter(r -> r.getName().contains(name)).collect(Collectors.toList());
-        }
-        if (type != null) {
-            rest = rest.stream().filter(r -> r.getType().equals(type)).collect(Collectors.toList());
-        }
-        if (location != null) {
-            rest = rest.stream().filter(r -> r.getAddress().getCity().equals(location)).collect(Collectors.toList());
-        }
-        if (sort != null) {
-            if (sort.equals("rating")) {
-                Comparator<Restaurant> comparator = Comparator.comparing(r -> r.getAverageRating().overall);
-                if (order != null && order.equals("asc")) {
-                    comparator = comparator.reversed();
-                }
-                rest.sort(comparator.reversed());
-            } else if (sort.equals("reviews")) {
-                Comparator<Restaurant> comparator = Comparator.comparingInt(r -> r.getReviews().size());
-                if (order != null && order.equals("asc")) {
-                    comparator = comparator.reversed();
-                }
-                rest.sort(comparator.reversed());
-            }
-        }
-        return rest;
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public String getOrder() {
+        return order;
     }
 
     public void setName(String name) {
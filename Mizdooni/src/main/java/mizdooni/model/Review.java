@@ -7,12 +7,14 @@ public class Review {
     private String comment;
     private LocalDateTime datetime;
     private User user;
+    private int sequence;
 
     public Review(User user, Rating rating, String comment, LocalDateTime datetime) {
         this.user = user;
         this.rating = rating;
         this.comment = comment;
         this.datetime = datetime;
+        this.sequence = -1;
     }
 
     public Rating getRating() {
@@ -26,4 +28,12 @@ public class Review {
     public User getUser() {
         return user;
     }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(int sequence) {
+        this.sequence = sequence;
+    }
 }
@@ -1,31 +1,92 @@
 package mizdooni.model;
 
+import mizdooni.util.AppendOnlyList;
+
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Table {
     private int tableNumber;
     private int restaurantId;
     private int seatsNumber;
-    private List<Reservation> reservations;
+    private AppendOnlyList<Reservation> reservations;
+    private Map<LocalDateTime, List<Reservation>> reservationsBySlot;
+    private Map<LocalDate, Integer> reservedHoursByDate;
 
     public Table(int tableNumber, int restaurantId, int seatsNumber) {
         this.tableNumber = tableNumber;
         this.restaurantId = restaurantId;
         this.seatsNumber = seatsNumber;
-        this.reservations = new ArrayList<>();
+        this.reservations = new AppendOnlyList<>();
+        this.reservationsBySlot = new HashMap<>();
+        this.reservedHoursByDate = new HashMap<>();
     }
 
-    public void addReservation(Reservation reservation) {
+    public synchronized void addReservation(Reservation reservation) {
         reservations.add(reservation);
+        reservationsBySlot.computeIfAbsent(reservation.getDateTime(), d -> new ArrayList<>(1)).add(reservation);
+        updateReservedHour(reservation.getDateTime());
     }
 
-    public boolean isReserved(LocalDateTime datetime) throws NullPointerException {
+    public synchronized boolean reserve(Reservation reservation) {
+        if (isReserved(reservation.getDateTime())) {
+            return false;
+        }
+        addReservation(reservation);
+        return true;
+    }
+
+    synchronized void releaseReservation(Reservation reservation) {
+        List<Reservation> slot = reservationsBySlot.get(reservation.getDateTime());
+        if (slot != null && slot.remove(reservation) && slot.isEmpty()) {
+            reservationsBySlot.remove(reservation.getDateTime());
+        }
+        updateReservedHour(reservation.getDateTime());
+    }
+
+    public synchronized boolean isReserved(LocalDateTime datetime) throws NullPointerException {
         if (datetime == null) {
             throw new NullPointerException();
         }
-        return reservations.stream().anyMatch(r -> r.getDateTime().equals(datetime) && !r.isCancelled());
+        List<Reservation> slot = reservationsBySlot.get(datetime);
+        if (slot == null) {
+            return false;
+        }
+        for (Reservation r : slot) {
+            if (!r.isCancelled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized int getReservedHours(LocalDate date) {
+        return reservedHoursByDate.getOrDefault(date, 0);
+    }
+
+    private void updateReservedHour(LocalDateTime datetime) {
+        if (datetime == null) {
+            return;
+        }
+        LocalTime time = datetime.toLocalTime();
+        if (time.getMinute() != 0 || time.getSecond() != 0 || time.getNano() != 0) {
+            return;
+        }
+
+        LocalDate date = datetime.toLocalDate();
+        int bit = 1 << time.getHour();
+        int hours = getReservedHours(date);
+        hours = isReserved(datetime) ? hours | bit : hours & ~bit;
+        if (hours == 0) {
+            reservedHoursByDate.remove(date);
+        } else {
+            reservedHoursByDate.put(date, hours);
+        }
     }
 
     public int getTableNumber() {
@@ -41,6 +102,6 @@ public class Table {
     }
 
     public List<Reservation> getReservations() {
-        return reservations;
+        return reservations.view();
     }
 }
@@ -1,8 +1,10 @@
 package mizdooni.model;
 
+import mizdooni.util.AppendOnlyList;
+
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class User {
     public enum Role {
@@ -10,7 +12,7 @@ public class User {
         manager,
     }
 
-    private static int idCounter = 0;
+    private static final AtomicInteger idCounter = new AtomicInteger();
     private int id;
     private String username;
     private String password;
@@ -18,33 +20,44 @@ public class User {
     private Address address;
     private Role role;
     private int reservationCounter;
-    private List<Reservation> reservations;
+    private AppendOnlyList<Reservation> reservations;
 
-    public User(String username, String password, String email, Address address, Role role) {
-        this.id = idCounter++;
+    private User(String username, String email, Address address, Role role, String passwordHash) {
+        this.id = idCounter.getAndIncrement();
         this.username = username;
-        this.password = password;
+        this.password = passwordHash;
         this.email = email;
         this.address = address;
         this.role = role;
         this.reservationCounter = 0;
-        this.reservations = new ArrayList<>();
+        this.reservations = new AppendOnlyList<>();
+    }
+
+    public static User withPasswordHash(String username, String passwordHash, String email, Address address, Role role) {
+        return new User(username, email, address, role, passwordHash);
+    }
+
+    public synchronized void addReservation(Reservation reservation) {
+        reservation.setReservationNumber(nextReservationNumber());
+        reservations.add(reservation);
+    }
+
+    public synchronized int nextReservationNumber() {
+        return reservationCounter++;
     }
 
-    public void addReservation(Reservation reservation) {
-        reservation.setReservationNumber(reservationCounter);
-        reservationCounter++;
+    public synchronized void addNumberedReservation(Reservation reservation) {
         reservations.add(reservation);
     }
 
     public boolean checkReserved(Restaurant restaurant) {
-        return reservations.stream().anyMatch(r -> !r.isCancelled() &&
+        return reservations.view().stream().anyMatch(r -> !r.isCancelled() &&
                 r.getDateTime().isBefore(LocalDateTime.now()) &&
                 r.getRestaurant().equals(restaurant));
     }
 
     public Reservation getReservation(int reservationNumber) {
-        for (Reservation r : reservations) {
+        for (Reservation r : reservations.view()) {
             if (r.getReservationNumber() == reservationNumber && !r.isCancelled()) {
                 return r;
             }
@@ -53,11 +66,11 @@ public class User {
     }
 
     public List<Reservation> getReservations() {
-        return reservations;
+        return reservations.view();
     }
 
     public boolean checkPassword(String pass) {
-        return password.equals(pass);
+        return pass != null && PasswordHasher.verify(pass, password);
     }
 
     public int getId() {
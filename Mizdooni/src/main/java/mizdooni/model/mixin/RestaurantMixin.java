@@ -9,12 +9,15 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import mizdooni.model.*;
-import mizdooni.response.serializer.ListSizeSerializer;
+import mizdooni.util.AppendOnlyList;
 import org.springframework.boot.jackson.JsonMixin;
 
 import java.io.IOException;
 import java.time.LocalTime;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 
 @JsonMixin(Restaurant.class)
 @JsonAutoDetect(
@@ -36,12 +39,33 @@ abstract class RestaurantMixin {
     private String imageLink;
 
     @JsonIgnore
-    private List<Table> tables;
+    private AppendOnlyList<Table> tables;
+    @JsonIgnore
+    private NavigableMap<Integer, List<Table>> tablesBySeats;
 
-    @JsonProperty("totalReviews")
-    @JsonSerialize(using = ListSizeSerializer.class)
-    private List<Review> reviews;
+    @JsonIgnore
+    private AppendOnlyList<Review> reviews;
+    @JsonIgnore
+    private List<Review> reviewLog;
+    @JsonIgnore
+    private BitSet replacedReviews;
+    @JsonIgnore
+    private Map<User, Integer> reviewIndexByUser;
+    @JsonIgnore
+    private int removedReviews;
+    @JsonIgnore
+    private int nextReviewSequence;
+    @JsonIgnore
+    private long foodSum;
+    @JsonIgnore
+    private long serviceSum;
+    @JsonIgnore
+    private long ambianceSum;
+    @JsonIgnore
+    private long overallSum;
 
+    @JsonProperty("totalReviews")
+    abstract int getReviewCount();
     @JsonProperty
     abstract int getMaxSeatsNumber();
     @JsonProperty
@@ -4,10 +4,9 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import mizdooni.model.Reservation;
 import mizdooni.model.User;
+import mizdooni.util.AppendOnlyList;
 import org.springframework.boot.jackson.JsonMixin;
 
-import java.util.List;
-
 @JsonMixin(User.class)
 @JsonAutoDetect(
         fieldVisibility = JsonAutoDetect.Visibility.ANY,
@@ -20,5 +19,5 @@ abstract class UserMixin {
     @JsonIgnore
     private int reservationCounter;
     @JsonIgnore
-    private List<Reservation> reservations;
+    private AppendOnlyList<Reservation> reservations;
 }
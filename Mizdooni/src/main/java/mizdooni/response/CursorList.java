@@ -0,0 +1,63 @@
+package mizdooni.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import mizdooni.response.serializer.ListSizeSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+public class CursorList<T> {
+    @JsonProperty("size")
+    @JsonSerialize(using = ListSizeSerializer.class)
+    private List<T> pageList;
+    @JsonProperty
+    private String nextCursor;
+
+    public CursorList(List<T> pageList, String nextCursor) {
+        this.pageList = pageList;
+        this.nextCursor = nextCursor;
+    }
+
+    @JsonProperty
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @JsonProperty("pageList")
+    public List<T> getPageList() {
+        return pageList;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public static String encodeCursor(long... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (long part : parts) {
+            if (!builder.isEmpty()) {
+                builder.append('.');
+            }
+            builder.append(part);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static long[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split("\\.");
+            long[] values = new long[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                values[i] = Long.parseLong(parts[i]);
+            }
+            return values;
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+}
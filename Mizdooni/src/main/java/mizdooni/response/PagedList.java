@@ -13,21 +13,27 @@ public class PagedList<T> {
     private int size;
     private int start;
     private int end;
+    private int total;
     private List<T> original;
     @JsonProperty("size")
     @JsonSerialize(using = ListSizeSerializer.class)
     private List<T> pageList;
 
     public PagedList(List<T> original, int page, int size) {
+        this(original, original.size(), page, size);
+    }
+
+    public PagedList(List<T> head, int total, int page, int size) {
         if (page < 1 || size < 1) {
             throw new IllegalArgumentException("invalid page number");
         }
         this.page = page;
         this.size = size;
-        this.original = original;
+        this.total = total;
+        this.original = head;
         this.start = (page - 1) * size;
-        this.end = Math.min(start + size, original.size());
-        if (this.start >= original.size()) {
+        this.end = Math.min(start + size, Math.min(total, head.size()));
+        if (this.start >= end) {
             this.pageList = Collections.emptyList();
         } else {
             this.pageList = original.subList(start, end);
@@ -36,12 +42,12 @@ public class PagedList<T> {
 
     @JsonProperty
     public boolean hasNext() {
-        return end < original.size();
+        return end < total;
     }
 
     @JsonProperty
     public int totalPages() {
-        return (int) Math.ceil((double) original.size() / size);
+        return (int) Math.ceil((double) total / size);
     }
 
     @JsonProperty("pageList")
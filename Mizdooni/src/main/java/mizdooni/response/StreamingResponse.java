@@ -0,0 +1,64 @@
+package mizdooni.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public class StreamingResponse implements StreamingResponseBody {
+    static final int FLUSH_INTERVAL = 256;
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ObjectMapper mapper;
+    private final LocalDateTime timestamp;
+    private final String message;
+    private final Stream<?> data;
+
+    public StreamingResponse(ObjectMapper mapper, String message, Stream<?> data) {
+        this.mapper = mapper;
+        this.timestamp = LocalDateTime.now();
+        this.message = message;
+        this.data = data;
+    }
+
+    public static ResponseEntity<StreamingResponseBody> ok(ObjectMapper mapper, String message, Stream<?> data) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new StreamingResponse(mapper, message, data));
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<?> items = data;
+             JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeStringField("timestamp", TIMESTAMP_FORMATTER.format(timestamp));
+            generator.writeNumberField("status", HttpStatus.OK.value());
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+            generator.writeArrayFieldStart("data");
+            int written = 0;
+            for (Iterator<?> it = items.iterator(); it.hasNext(); ) {
+                writer.writeValue(generator, it.next());
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package mizdooni.service;
+
+import jakarta.annotation.PreDestroy;
+import mizdooni.model.PasswordHasher;
+import mizdooni.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class LoginExecutor {
+    static final int LOG_INTERVAL = 1000;
+
+    public record Metrics(long attempts, long succeeded, long failed, long rejected, long timedOut,
+                          long averageHashMicros, double loginsPerSecond, int queued) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(LoginExecutor.class);
+    private final ThreadPoolExecutor executor;
+    private final PasswordHasher passwordHasher;
+    private final long timeoutNanos;
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong attempts = new AtomicLong();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    @Autowired
+    public LoginExecutor(@Value("${mizdooni.login.threads:2}") int threads,
+                         @Value("${mizdooni.login.queue-capacity:64}") int queueCapacity,
+                         @Value("${mizdooni.login.timeout:PT5S}") Duration timeout,
+                         PasswordHasher passwordHasher) {
+        this.passwordHasher = passwordHasher;
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger threadCounter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadCounter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean checkPassword(User user, String password) {
+        long attempt = attempts.incrementAndGet();
+        boolean valid = execute(() -> {
+            long start = System.nanoTime();
+            try {
+                if (user == null) {
+                    passwordHasher.hash(password);
+                    return false;
+                }
+                return user.checkPassword(password);
+            } finally {
+                hashNanos.add(System.nanoTime() - start);
+            }
+        });
+        (valid ? succeeded : failed).increment();
+        if (attempt % LOG_INTERVAL == 0) {
+            logger.info("Login metrics: {}", getMetrics());
+        }
+        return valid;
+    }
+
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw ex;
+        }
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            // the caller gives up like on a full queue; a task still waiting in the queue is skipped
+            future.cancel(true);
+            timedOut.increment();
+            throw new RejectedExecutionException("login timed out", ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    public Metrics getMetrics() {
+        long completed = succeeded.sum() + failed.sum();
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        return new Metrics(attempts.get(), succeeded.sum(), failed.sum(), rejected.sum(), timedOut.sum(),
+                completed == 0 ? 0 : hashNanos.sum() / completed / 1000,
+                seconds == 0 ? 0 : completed / seconds, executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -13,10 +13,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ReservationService {
@@ -27,7 +25,22 @@ public class ReservationService {
 
     public List<Reservation> getReservations(int restaurantId, int tableNumber, LocalDate date)
             throws RestaurantNotFound, UserNotManager, InvalidManagerRestaurant, TableNotFound {
-        Restaurant restaurant = ServiceUtils.findRestaurant(restaurantId, db.restaurants);
+        List<Reservation> reservations = findManagedTable(restaurantId, tableNumber).getReservations();
+        if (date != null) {
+            reservations = reservations.stream().filter(reservation -> reservation.getDateTime().toLocalDate().equals(date)).toList();
+        }
+        return reservations;
+    }
+
+    public Stream<Reservation> streamReservations(int restaurantId, int tableNumber, LocalDate date)
+            throws RestaurantNotFound, UserNotManager, InvalidManagerRestaurant, TableNotFound {
+        // the stream is consumed on another thread after this returns, so it must not see later bookings
+        return getReservations(restaurantId, tableNumber, date).stream();
+    }
+
+    private Table findManagedTable(int restaurantId, int tableNumber)
+            throws RestaurantNotFound, UserNotManager, InvalidManagerRestaurant, TableNotFound {
+        Restaurant restaurant = db.findRestaurant(restaurantId);
         if (restaurant == null) {
             throw new RestaurantNotFound();
         }
@@ -44,12 +57,7 @@ public class ReservationService {
         if (table == null) {
             throw new TableNotFound();
         }
-
-        List<Reservation> reservations = table.getReservations();
-        if (date != null) {
-            reservations = reservations.stream().filter(reservation -> reservation.getDateTime().toLocalDate().equals(date)).toList();
-        }
-        return reservations;
+        return table;
     }
 
     public List<Reservation> getCustomerReservations(int customerId) throws UserNotFound, UserNoAccess {
@@ -65,7 +73,7 @@ public class ReservationService {
 
     public List<LocalTime> getAvailableTimes(int restaurantId, int people, LocalDate date)
             throws RestaurantNotFound, DateTimeInThePast, BadPeopleNumber {
-        Restaurant restaurant = ServiceUtils.findRestaurant(restaurantId, db.restaurants);
+        Restaurant restaurant = db.findRestaurant(restaurantId);
         if (restaurant == null) {
             throw new RestaurantNotFound();
         }
@@ -77,12 +85,22 @@ public class ReservationService {
             throw new BadPeopleNumber();
         }
 
-        Set<LocalTime> availableTimes = restaurant.getTables().stream()
-                .filter(table -> table.getSeatsNumber() >= people)
-                .flatMap(table -> getAvailableTableTimes(table, date, restaurant).stream())
-                .collect(Collectors.toSet());
+        int openHours = hoursBetween(restaurant.getStartTime().getHour(), restaurant.getEndTime().getHour());
+        int availableHours = 0;
+        for (Table table : restaurant.getTables()) {
+            if (table.getSeatsNumber() >= people) {
+                availableHours |= openHours & ~table.getReservedHours(date);
+                if (availableHours == openHours) {
+                    break;
+                }
+            }
+        }
 
-        return availableTimes.stream().sorted().toList();
+        List<LocalTime> availableTimes = new ArrayList<>(Integer.bitCount(availableHours));
+        for (int hours = availableHours; hours != 0; hours &= hours - 1) {
+            availableTimes.add(LocalTime.of(Integer.numberOfTrailingZeros(hours), 0));
+        }
+        return availableTimes;
     }
 
     public Reservation reserveTable(int restaurantId, int people, LocalDateTime datetime)
@@ -103,7 +121,7 @@ public class ReservationService {
             throw new DateTimeInThePast();
         }
 
-        Restaurant restaurant = ServiceUtils.findRestaurant(restaurantId, db.restaurants);
+        Restaurant restaurant = db.findRestaurant(restaurantId);
         if (restaurant == null) {
             throw new RestaurantNotFound();
         }
@@ -112,14 +130,12 @@ public class ReservationService {
             throw new ReservationNotInOpenTimes();
         }
 
-        Table table = findAvailableTable(restaurant, people, datetime);
-        if (table == null) {
+        Reservation reservation = reserveAvailableTable(user, restaurant, people, datetime);
+        if (reservation == null) {
             throw new TableNotFound();
         }
 
-        Reservation reservation = new Reservation(user, restaurant, table, datetime);
-        user.addReservation(reservation);
-        table.addReservation(reservation);
+        user.addNumberedReservation(reservation);
         return reservation;
     }
 
@@ -141,35 +157,31 @@ public class ReservationService {
         reservation.cancel();
     }
 
-    private List<LocalTime> getAvailableTableTimes(Table table, LocalDate date, Restaurant restaurant) {
-        Set<LocalTime> reserves = table.getReservations().stream()
-                .filter(r -> r.getDateTime().toLocalDate().equals(date) && !r.isCancelled())
-                .map(r -> r.getDateTime().toLocalTime())
-                .collect(Collectors.toSet());
-
-        List<LocalTime> availableTimes = new ArrayList<>();
-        int startTime = restaurant.getStartTime().getHour();
-        int endTime = restaurant.getEndTime().getHour();
-
-        for (int i = startTime; i <= endTime; i++) {
-            LocalTime time = LocalTime.of(i, 0);
-            if (!reserves.contains(time)) {
-                availableTimes.add(time);
-            }
+    private static int hoursBetween(int startHour, int endHour) {
+        if (startHour > endHour) {
+            return 0;
         }
-        return availableTimes;
+        return (int) ((1L << (endHour + 1)) - (1L << startHour));
     }
 
-    private Table findAvailableTable(Restaurant restaurant, int people, LocalDateTime datetime) {
-        Table availableTable;
-        try {
-            availableTable = restaurant.getTables().stream()
-                .filter(table -> table.getSeatsNumber() >= people && !table.isReserved(datetime))
-                .min(Comparator.comparingInt(Table::getSeatsNumber))
-                .orElse(null);
-        } catch (NullPointerException e) {
-            return null;
-        }
-        return availableTable;
+    private Reservation reserveAvailableTable(User user, Restaurant restaurant, int people, LocalDateTime datetime) {
+        int reservationNumber = -1;
+        for (List<Table> bucket : restaurant.getTablesWithSeatsAtLeast(people)) {
+            for (Table table : bucket) {
+                if (table.isReserved(datetime)) {
+                    continue;
+                }
+                // the number must be set before table.reserve makes the reservation visible to managers
+                if (reservationNumber < 0) {
+                    reservationNumber = user.nextReservationNumber();
+                }
+                Reservation reservation = new Reservation(user, restaurant, table, datetime);
+                reservation.setReservationNumber(reservationNumber);
+                if (table.reserve(reservation)) {
+                    return reservation;
+                }
+            }
+        }
+        return null;
     }
 }
@@ -1,6 +1,7 @@
 package mizdooni.service;
 
 import mizdooni.database.Database;
+import mizdooni.database.RestaurantSearchIndex;
 import mizdooni.exceptions.DuplicatedRestaurantName;
 import mizdooni.exceptions.InvalidWorkingTime;
 import mizdooni.exceptions.UserNotManager;
@@ -8,6 +9,7 @@ import mizdooni.model.Address;
 import mizdooni.model.Restaurant;
 import mizdooni.model.RestaurantSearchFilter;
 import mizdooni.model.User;
+import mizdooni.response.CursorList;
 import mizdooni.response.PagedList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -26,19 +28,34 @@ public class RestaurantService {
     private UserService userService;
 
     public Restaurant getRestaurant(int restaurantId) {
-        return ServiceUtils.findRestaurant(restaurantId, db.restaurants);
+        return db.findRestaurant(restaurantId);
     }
 
     public PagedList<Restaurant> getRestaurants(int page, RestaurantSearchFilter filter) {
-        List<Restaurant> restaurants = db.restaurants;
-        if (filter != null) {
-            restaurants = filter.filter(restaurants);
+        if (filter == null) {
+            return new PagedList<>(db.getRestaurants(), page, ServiceUtils.RESTAURANT_PAGE_SIZE);
         }
-        return new PagedList<>(restaurants, page, ServiceUtils.RESTAURANT_PAGE_SIZE);
+        int limit = (int) Math.min((long) Math.max(page, 1) * ServiceUtils.RESTAURANT_PAGE_SIZE, Integer.MAX_VALUE);
+        RestaurantSearchIndex.Result result = db.searchRestaurants(filter, limit);
+        return new PagedList<>(result.getRestaurants(), result.getTotal(), page, ServiceUtils.RESTAURANT_PAGE_SIZE);
+    }
+
+    public CursorList<Restaurant> getRestaurantsAfter(String cursor, RestaurantSearchFilter filter) {
+        if (filter == null) {
+            filter = new RestaurantSearchFilter();
+        }
+        List<Restaurant> restaurants = db.searchRestaurantsAfter(filter, CursorList.decodeCursor(cursor),
+                ServiceUtils.RESTAURANT_PAGE_SIZE + 1);
+        if (restaurants.size() <= ServiceUtils.RESTAURANT_PAGE_SIZE) {
+            return new CursorList<>(restaurants, null);
+        }
+        restaurants = restaurants.subList(0, ServiceUtils.RESTAURANT_PAGE_SIZE);
+        String nextCursor = CursorList.encodeCursor(db.restaurantCursor(filter, restaurants.getLast()));
+        return new CursorList<>(restaurants, nextCursor);
     }
 
     public List<Restaurant> getManagerRestaurants(int managerId) {
-        return db.restaurants.stream().filter(r -> r.getManager().getId() == managerId).collect(Collectors.toList());
+        return db.findManagerRestaurants(managerId);
     }
 
     public int addRestaurant(String name, String type, LocalTime startTime, LocalTime endTime, String description,
@@ -57,20 +74,22 @@ public class RestaurantService {
         }
 
         Restaurant restaurant = new Restaurant(name, manager, type, startTime, endTime, description, address, imageLink);
-        db.restaurants.add(restaurant);
+        if (!db.addRestaurant(restaurant)) {
+            throw new DuplicatedRestaurantName();
+        }
         return restaurant.getId();
     }
 
     public boolean restaurantExists(String name) {
-        return db.restaurants.stream().anyMatch(r -> r.getName().equals(name));
+        return db.findRestaurantByName(name) != null;
     }
 
     public Set<String> getRestaurantTypes() {
-        return db.restaurants.stream().map(Restaurant::getType).collect(Collectors.toSet());
+        return db.getRestaurants().stream().map(Restaurant::getType).collect(Collectors.toSet());
     }
 
     public Map<String, Set<String>> getRestaurantLocations() {
-        return db.restaurants.stream().collect(Collectors.groupingBy(r -> r.getAddress().getCountry(),
+        return db.getRestaurants().stream().collect(Collectors.groupingBy(r -> r.getAddress().getCountry(),
                 Collectors.mapping(r -> r.getAddress().getCity(), Collectors.toSet())));
     }
 }
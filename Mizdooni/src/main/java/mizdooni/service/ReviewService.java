@@ -6,11 +6,13 @@ import mizdooni.model.Rating;
 import mizdooni.model.Restaurant;
 import mizdooni.model.Review;
 import mizdooni.model.User;
+import mizdooni.response.CursorList;
 import mizdooni.response.PagedList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class ReviewService {
@@ -20,7 +22,7 @@ public class ReviewService {
     private UserService userService;
 
     public PagedList<Review> getReviews(int restaurantId, int page) throws RestaurantNotFound {
-        Restaurant restaurant = ServiceUtils.findRestaurant(restaurantId, db.restaurants);
+        Restaurant restaurant = db.findRestaurant(restaurantId);
         if (restaurant == null) {
             throw new RestaurantNotFound();
         }
@@ -28,6 +30,25 @@ public class ReviewService {
         return reviews;
     }
 
+    public CursorList<Review> getReviewsAfter(int restaurantId, String cursor) throws RestaurantNotFound {
+        Restaurant restaurant = db.findRestaurant(restaurantId);
+        if (restaurant == null) {
+            throw new RestaurantNotFound();
+        }
+        long[] after = CursorList.decodeCursor(cursor);
+        if (after != null && after.length != 1) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+
+        int sequence = after == null ? -1 : (int) after[0];
+        List<Review> reviews = restaurant.getReviewsAfter(sequence, ServiceUtils.REVIEW_PAGE_SIZE + 1);
+        if (reviews.size() <= ServiceUtils.REVIEW_PAGE_SIZE) {
+            return new CursorList<>(reviews, null);
+        }
+        reviews = reviews.subList(0, ServiceUtils.REVIEW_PAGE_SIZE);
+        return new CursorList<>(reviews, CursorList.encodeCursor(reviews.getLast().getSequence()));
+    }
+
     public void addReview(int restaurantId, Rating rating, String comment)
             throws UserNotFound, ManagerCannotReview, RestaurantNotFound, InvalidReviewRating, UserHasNotReserved {
         User user = userService.getCurrentUser();
@@ -38,7 +59,7 @@ public class ReviewService {
             throw new ManagerCannotReview();
         }
 
-        Restaurant restaurant = ServiceUtils.findRestaurant(restaurantId, db.restaurants);
+        Restaurant restaurant = db.findRestaurant(restaurantId);
         if (restaurant == null) {
             throw new RestaurantNotFound();
         }
@@ -61,5 +82,6 @@ public class ReviewService {
 
         Review review = new Review(user, rating, comment, LocalDateTime.now());
         restaurant.addReview(review);
+        db.restaurantRatingChanged(restaurant);
     }
 }
@@ -1,14 +1,10 @@
 package mizdooni.service;
 
-import mizdooni.model.Restaurant;
-import mizdooni.model.User;
-
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class ServiceUtils {
@@ -16,24 +12,32 @@ public class ServiceUtils {
     static final int RESTAURANT_PAGE_SIZE = 12;
 
     public static boolean validateUsername(String username) {
-        String usernameFormat = "^\\w+$";
-        return username.matches(usernameFormat);
+        return isWord(username, 0, username.length());
     }
 
     public static boolean validateEmail(String email) {
-        String emailFormat = "^\\w+@\\w+\\.\\w+$";
-        return email.matches(emailFormat);
+        int at = email.indexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        int dot = email.indexOf('.', at + 1);
+        return dot >= 0 && isWord(email, 0, at) && isWord(email, at + 1, dot) && isWord(email, dot + 1, email.length());
     }
 
-    static boolean validateWorkingTime(LocalTime time) {
-        return time.getMinute() == 0;
+    private static boolean isWord(String s, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_')) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    static boolean userIsTaken(String username, String email, List<User> users) {
-        return users.stream().anyMatch(u -> u.getUsername().equals(username) || u.getEmail().equals(email));
-    }
-
-    static Restaurant findRestaurant(int id, List<Restaurant> restaurants) {
-        return restaurants.stream().filter(r -> r.getId() == id).findFirst().orElse(null);
+    static boolean validateWorkingTime(LocalTime time) {
+        return time.getMinute() == 0;
     }
 }
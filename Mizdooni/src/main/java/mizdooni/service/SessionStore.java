@@ -0,0 +1,79 @@
+package mizdooni.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class SessionStore {
+    static final int PURGE_INTERVAL = 1024;
+    private static final int TOKEN_BYTES = 32;
+
+    private record Session(int userId, Instant expiresAt) {
+    }
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger createdSincePurge = new AtomicInteger();
+    private final SecureRandom random = new SecureRandom();
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public SessionStore(@Value("${mizdooni.session.ttl:PT12H}") Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    SessionStore(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public String create(int userId) {
+        if (createdSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            createdSincePurge.set(0);
+            purgeExpired();
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(userId, clock.instant().plus(ttl)));
+        return token;
+    }
+
+    public Integer resolve(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(session.expiresAt())) {
+            sessions.remove(token, session);
+            return null;
+        }
+        return session.userId();
+    }
+
+    public boolean remove(String token) {
+        return token != null && sessions.remove(token) != null;
+    }
+
+    void purgeExpired() {
+        Instant now = clock.instant();
+        sessions.values().removeIf(session -> !now.isBefore(session.expiresAt()));
+    }
+
+    int size() {
+        return sessions.size();
+    }
+}
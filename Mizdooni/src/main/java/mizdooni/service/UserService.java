@@ -5,6 +5,7 @@ import mizdooni.exceptions.DuplicatedUsernameEmail;
 import mizdooni.exceptions.InvalidEmailFormat;
 import mizdooni.exceptions.InvalidUsernameFormat;
 import mizdooni.model.Address;
+import mizdooni.model.PasswordHasher;
 import mizdooni.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -13,21 +14,59 @@ import org.springframework.stereotype.Service;
 public class UserService {
     @Autowired
     private Database db;
-    private User currentUser = null;
+    @Autowired
+    private SessionStore sessionStore;
+    @Autowired
+    private LoginExecutor loginExecutor;
+    @Autowired
+    private PasswordHasher passwordHasher;
+    private final ThreadLocal<CurrentSession> currentSession = new ThreadLocal<>();
+
+    private record CurrentSession(String token, User user) {
+    }
 
     public User getCurrentUser() {
-        return currentUser;
+        CurrentSession session = currentSession.get();
+        return session == null ? null : session.user();
+    }
+
+    public String getCurrentToken() {
+        CurrentSession session = currentSession.get();
+        return session == null ? null : session.token();
+    }
+
+    public User authenticate(String token) {
+        Integer userId = sessionStore.resolve(token);
+        User user = userId == null ? null : db.findUser(userId);
+        if (user == null) {
+            currentSession.remove();
+            return null;
+        }
+        currentSession.set(new CurrentSession(token, user));
+        return user;
+    }
+
+    public void clearCurrentUser() {
+        currentSession.remove();
     }
 
     public boolean login(String username, String password) {
-        User user = db.users.stream().filter(u -> u.getUsername().equals(username)).findFirst().orElse(null);
-        if (user != null && user.checkPassword(password)) {
-            currentUser = user;
+        User user = db.findUserByUsername(username);
+        if (loginExecutor.checkPassword(user, password)) {
+            startSession(user);
             return true;
         }
         return false;
     }
 
+    private void startSession(User user) {
+        CurrentSession replaced = currentSession.get();
+        if (replaced != null) {
+            sessionStore.remove(replaced.token());
+        }
+        currentSession.set(new CurrentSession(sessionStore.create(user.getId()), user));
+    }
+
     public void signup(String username, String password, String email, Address address,
                        User.Role role) throws InvalidEmailFormat, InvalidUsernameFormat, DuplicatedUsernameEmail {
         if (!ServiceUtils.validateUsername(username)) {
@@ -36,27 +75,33 @@ public class UserService {
         if (!ServiceUtils.validateEmail(email)) {
             throw new InvalidEmailFormat();
         }
-        if (ServiceUtils.userIsTaken(username, email, db.users)) {
+        if (db.findUserByUsername(username) != null || db.findUserByEmail(email) != null) {
             throw new DuplicatedUsernameEmail();
         }
 
-        User user = new User(username, password, email, address, role);
-        db.users.add(user);
+        String passwordHash = loginExecutor.execute(() -> passwordHasher.hash(password));
+        User user = User.withPasswordHash(username, passwordHash, email, address, role);
+        if (!db.addUser(user)) {
+            throw new DuplicatedUsernameEmail();
+        }
+        startSession(user);
     }
 
     public boolean logout() {
-        if (currentUser != null) {
-            currentUser = null;
+        CurrentSession session = currentSession.get();
+        if (session != null) {
+            sessionStore.remove(session.token());
+            currentSession.remove();
             return true;
         }
         return false;
     }
 
     public boolean usernameExists(String username) {
-        return db.users.stream().anyMatch(u -> u.getUsername().equals(username));
+        return db.findUserByUsername(username) != null;
     }
 
     public boolean emailExists(String email) {
-        return db.users.stream().anyMatch(u -> u.getEmail().equals(email));
+        return db.findUserByEmail(email) != null;
     }
 }
@@ -0,0 +1,66 @@
+package mizdooni.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// Grows at the end. Writers are serialized by the caller; readers take an immutable snapshot
+// that records how much of the shared backing array it covers, so appends stay amortized O(1).
+public final class AppendOnlyList<T> {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int size;
+    private volatile List<T> view = List.of();
+
+    public void add(T item) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = item;
+        view = new Snapshot<>(elements, size);
+    }
+
+    // publishes one snapshot for the whole batch
+    public void addAll(List<? extends T> items) {
+        if (size + items.size() > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(size + items.size(), size * 2));
+        }
+        for (T item : items) {
+            elements[size++] = item;
+        }
+        view = new Snapshot<>(elements, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<T> view() {
+        return view;
+    }
+
+    private static final class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        Snapshot(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
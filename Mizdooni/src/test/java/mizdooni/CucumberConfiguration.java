@@ -4,6 +4,6 @@ import io.cucumber.spring.CucumberContextConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @CucumberContextConfiguration
-@SpringBootTest(classes = MizdooniApplication.class)
+@SpringBootTest(classes = MizdooniApplication.class, properties = "mizdooni.password.iterations=1000")
 public class CucumberConfiguration {
 }
@@ -0,0 +1,17 @@
+package mizdooni;
+
+import mizdooni.model.Address;
+import mizdooni.model.PasswordHasher;
+import mizdooni.model.User;
+
+// Builds users whose passwords are hashed with a cheap work factor, so fixtures don't pay for production hashing
+public final class TestUsers {
+    public static final PasswordHasher HASHER = new PasswordHasher(1000);
+
+    private TestUsers() {
+    }
+
+    public static User user(String username, String password, String email, Address address, User.Role role) {
+        return User.withPasswordHash(username, HASHER.hash(password), email, address, role);
+    }
+}
@@ -0,0 +1,162 @@
+package mizdooni.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import mizdooni.filters.AuthInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "mizdooni.password.iterations=1000")
+@AutoConfigureMockMvc
+class AuthenticationControllerApiTest {
+
+    private static final AtomicInteger userCounter = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Test Sessions Are Kept Per Token")
+    void testSessionsPerToken() throws Exception {
+        String firstUsername = "sessionUser" + userCounter.incrementAndGet();
+        String secondUsername = "sessionUser" + userCounter.incrementAndGet();
+        String first = signup(firstUsername);
+        String second = signup(secondUsername);
+        assertNotEquals(first, second);
+
+        mockMvc.perform(get("/user").header(AuthInterceptor.TOKEN_HEADER, first))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.username").value(firstUsername));
+        mockMvc.perform(get("/user").header(AuthInterceptor.TOKEN_HEADER, second))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.username").value(secondUsername));
+        mockMvc.perform(get("/user")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/reserves/customer/0")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Test Login Returns New Token And Logout Revokes It")
+    void testLoginLogout() throws Exception {
+        String username = "sessionUser" + userCounter.incrementAndGet();
+        String signupToken = signup(username);
+        String loginToken = mockMvc
+            .perform(post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("username", username, "password", "pass"))))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(AuthInterceptor.TOKEN_HEADER))
+            .andReturn().getResponse().getHeader(AuthInterceptor.TOKEN_HEADER);
+        assertNotEquals(signupToken, loginToken);
+
+        mockMvc.perform(post("/logout").header(AuthInterceptor.TOKEN_HEADER, loginToken))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/user").header(AuthInterceptor.TOKEN_HEADER, loginToken))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/user").header(AuthInterceptor.TOKEN_HEADER, signupToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.username").value(username));
+        mockMvc.perform(post("/logout")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Test Login With Current Token Revokes It")
+    void testLoginReplacesCurrentSession() throws Exception {
+        String username = "sessionUser" + userCounter.incrementAndGet();
+        String signupToken = signup(username);
+        String loginToken = mockMvc
+            .perform(post("/login")
+                .header(AuthInterceptor.TOKEN_HEADER, signupToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("username", username, "password", "pass"))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(AuthInterceptor.TOKEN_HEADER);
+        assertNotEquals(signupToken, loginToken);
+
+        mockMvc.perform(get("/user").header(AuthInterceptor.TOKEN_HEADER, signupToken))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/user").header(AuthInterceptor.TOKEN_HEADER, loginToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.username").value(username));
+    }
+
+    @Test
+    @DisplayName("Test Login Metrics Require Login")
+    void testLoginMetrics() throws Exception {
+        String token = signup("sessionUser" + userCounter.incrementAndGet());
+
+        mockMvc.perform(get("/login/metrics")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/login/metrics").header(AuthInterceptor.TOKEN_HEADER, token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.attempts").isNumber())
+            .andExpect(jsonPath("$.data.rejected").isNumber())
+            .andExpect(jsonPath("$.data.timedOut").isNumber())
+            .andExpect(jsonPath("$.data.queued").isNumber());
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Requests See Their Own User")
+    void testConcurrentRequests() throws Exception {
+        List<String> usernames = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String username = "sessionUser" + userCounter.incrementAndGet();
+            usernames.add(username);
+            tokens.add(signup(username));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String username = usernames.get(i);
+            String token = tokens.get(i);
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 50; j++) {
+                    mockMvc.perform(get("/user").header(AuthInterceptor.TOKEN_HEADER, token))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.username").value(username));
+                }
+                return null;
+            }));
+        }
+        executor.shutdown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private String signup(String username) throws Exception {
+        Map<String, Object> params = Map.of(
+            "username", username,
+            "password", "pass",
+            "email", username + "@example.com",
+            "role", "client",
+            "address", Map.of("country", "Country", "city", "City")
+        );
+        return mockMvc
+            .perform(post("/signup").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(params)))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(AuthInterceptor.TOKEN_HEADER))
+            .andReturn().getResponse().getHeader(AuthInterceptor.TOKEN_HEADER);
+    }
+}
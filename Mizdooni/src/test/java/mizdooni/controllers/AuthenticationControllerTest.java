@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import mizdooni.TestUsers;
 import mizdooni.model.Address;
 import mizdooni.model.User;
 import mizdooni.response.Response;
@@ -41,7 +42,7 @@ public class AuthenticationControllerTest {
     public void setUp() {
         Address address = new Address("Country", "City", null);
         mockUser =
-            new User(
+            TestUsers.user(
                 "testUser",
                 "testPass",
                 "test@example.com",
@@ -0,0 +1,136 @@
+package mizdooni.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import mizdooni.TestUsers;
+import mizdooni.exceptions.TableNotFound;
+import mizdooni.model.Address;
+import mizdooni.model.Reservation;
+import mizdooni.model.Restaurant;
+import mizdooni.model.Table;
+import mizdooni.model.User;
+import mizdooni.service.ReservationService;
+import mizdooni.service.RestaurantService;
+import mizdooni.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "mizdooni.password.iterations=1000")
+@AutoConfigureMockMvc
+class ReservationControllerApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private RestaurantService restaurantService;
+
+    @MockBean
+    private ReservationService reservationService;
+
+    @MockBean
+    private UserService userService;
+
+    private Restaurant restaurant;
+    private List<Reservation> reservations;
+
+    @BeforeEach
+    void setUp() {
+        Address address = new Address("Country", "City", "Street");
+        User manager = TestUsers.user("manager", "pass", "manager@example.com", address, User.Role.manager);
+        User client = TestUsers.user("client", "pass", "client@example.com", address, User.Role.client);
+        restaurant = new Restaurant("Mock Restaurant", manager, "Italian", LocalTime.of(9, 0), LocalTime.of(23, 0),
+                "Nice place", address, "imageLink");
+        Table table = new Table(1, restaurant.getId(), 4);
+        restaurant.addTable(table);
+
+        reservations = new ArrayList<>();
+        LocalDateTime start = LocalDate.now().plusDays(1).atTime(9, 0);
+        for (int i = 0; i < 600; i++) {
+            Reservation reservation = new Reservation(client, restaurant, table, start.plusHours(i));
+            client.addReservation(reservation);
+            reservations.add(reservation);
+        }
+
+        when(userService.getCurrentUser()).thenReturn(manager);
+        when(restaurantService.getRestaurant(restaurant.getId())).thenReturn(restaurant);
+    }
+
+    @Test
+    @DisplayName("Test Streamed Reservations Match Buffered Response")
+    void testStreamReservations() throws Exception {
+        when(reservationService.getReservations(restaurant.getId(), 1, null)).thenReturn(reservations);
+        when(reservationService.streamReservations(restaurant.getId(), 1, null)).thenReturn(reservations.stream());
+
+        String buffered = mockMvc
+            .perform(get("/reserves/{restaurantId}", restaurant.getId()).param("table", "1"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        MvcResult streaming = mockMvc
+            .perform(get("/reserves/{restaurantId}", restaurant.getId()).param("table", "1").param("stream", "true"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String streamed = mockMvc
+            .perform(asyncDispatch(streaming))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        JsonNode expected = objectMapper.readTree(buffered);
+        JsonNode actual = objectMapper.readTree(streamed);
+        assertTrue(actual.get("timestamp").isTextual());
+        ((ObjectNode) expected).remove("timestamp");
+        ((ObjectNode) actual).remove("timestamp");
+        assertEquals(expected, actual);
+        assertEquals(600, actual.get("data").size());
+    }
+
+    @Test
+    @DisplayName("Test stream=false Uses Buffered Response")
+    void testStreamFalseIsBuffered() throws Exception {
+        when(reservationService.getReservations(restaurant.getId(), 1, null)).thenReturn(reservations);
+
+        mockMvc
+            .perform(get("/reserves/{restaurantId}", restaurant.getId()).param("table", "1").param("stream", "false"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(600));
+        verify(reservationService, never()).streamReservations(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Test Streamed Reservations Error Uses Regular Envelope")
+    void testStreamReservationsError() throws Exception {
+        when(reservationService.streamReservations(restaurant.getId(), 7, null)).thenThrow(new TableNotFound());
+
+        mockMvc
+            .perform(get("/reserves/{restaurantId}", restaurant.getId()).param("table", "7").param("stream", "true"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.message").value(new TableNotFound().getMessage()));
+    }
+}
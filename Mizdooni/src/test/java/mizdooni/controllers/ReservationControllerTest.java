@@ -12,6 +12,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import mizdooni.TestUsers;
 import mizdooni.exceptions.ReservationCannotBeCancelled;
 import mizdooni.exceptions.ReservationNotFound;
 import mizdooni.exceptions.UserNotFound;
@@ -74,7 +75,7 @@ public class ReservationControllerTest {
     @Before
     public void setUp() {
         manager =
-            new User(
+            TestUsers.user(
                 "manager",
                 "pass",
                 "email@example.com",
@@ -82,7 +83,7 @@ public class ReservationControllerTest {
                 User.Role.manager
             );
         client =
-            new User(
+            TestUsers.user(
                 "client",
                 "pass",
                 "email@example.com",
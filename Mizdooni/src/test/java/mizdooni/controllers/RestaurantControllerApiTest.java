@@ -15,6 +15,7 @@ import java.time.LocalTime;
 import java.util.*;
 import mizdooni.model.Address;
 import mizdooni.model.Restaurant;
+import mizdooni.response.CursorList;
 import mizdooni.response.PagedList;
 import mizdooni.response.ResponseException;
 import mizdooni.service.RestaurantService;
@@ -34,7 +35,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
-@SpringBootTest
+@SpringBootTest(properties = "mizdooni.password.iterations=1000")
 @AutoConfigureMockMvc
 class RestaurantControllerApiTest {
 
@@ -84,7 +85,14 @@ class RestaurantControllerApiTest {
             .andExpect(jsonPath("$.success").value(true))
             .andExpect(jsonPath("$.message").value("restaurant found"))
             .andExpect(jsonPath("$.data.name").value("Mock Restaurant"))
-            .andExpect(jsonPath("$.data.type").value("Italian"));
+            .andExpect(jsonPath("$.data.type").value("Italian"))
+            .andExpect(jsonPath("$.data.averageRating.overall").value(0.0))
+            .andExpect(jsonPath("$.data.starCount").value(0))
+            .andExpect(jsonPath("$.data.totalReviews").value(0))
+            .andExpect(jsonPath("$.data.tablesBySeats").doesNotExist())
+            .andExpect(jsonPath("$.data.ratingSum").doesNotExist())
+            .andExpect(jsonPath("$.data.reviewIndexByUser").doesNotExist())
+            .andExpect(jsonPath("$.data.removedReviews").doesNotExist());
     }
 
     @Test
@@ -128,6 +136,24 @@ class RestaurantControllerApiTest {
             .andExpect(jsonPath("$.data.pageList[0].address.street").value("Street"));
     }
 
+    @Test
+    @DisplayName("Test Get Restaurants By Cursor")
+    void testGetRestaurants_Cursor() throws Exception {
+        CursorList<Restaurant> restaurants = new CursorList<>(List.of(mockRestaurant), "next");
+
+        when(restaurantService.getRestaurantsAfter(eq("abc"), any())).thenReturn(restaurants);
+
+        mockMvc
+            .perform(get("/restaurants").param("cursor", "abc").param("type", "Italian"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.message").value("restaurants listed"))
+            .andExpect(jsonPath("$.data.size").value(1))
+            .andExpect(jsonPath("$.data.hasNext").value(true))
+            .andExpect(jsonPath("$.data.nextCursor").value("next"))
+            .andExpect(jsonPath("$.data.pageList[0].name").value("Mock Restaurant"));
+        verify(restaurantService, never()).getRestaurants(anyInt(), any());
+    }
+
     @Test
     @DisplayName("Test Get Restaurants Success Multiple Restaurants")
     void testGetRestaurants_Success_MultipleRestaurants() throws Exception {
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import mizdooni.TestUsers;
 import mizdooni.model.Address;
 import mizdooni.model.Rating;
 import mizdooni.model.Restaurant;
@@ -51,14 +52,14 @@ public class ReviewControllerTest {
     @Before
     public void setUp() {
         Address address = new Address("Country", "City", null);
-        User manager = new User(
+        User manager = TestUsers.user(
             "manager",
             "pass",
             "email@example.com",
             address,
             User.Role.manager
         );
-        User client = new User(
+        User client = TestUsers.user(
             "client",
             "pass",
             "email@example.com",
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import mizdooni.TestUsers;
 import mizdooni.model.Address;
 import mizdooni.model.Restaurant;
 import mizdooni.model.Table;
@@ -31,7 +32,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-@SpringBootTest
+@SpringBootTest(properties = "mizdooni.password.iterations=1000")
 @AutoConfigureMockMvc
 class TableControllerApiTest {
 
@@ -54,7 +55,7 @@ class TableControllerApiTest {
         reset(restaurantService, tableService);
 
         Address address = new Address("Country", "City", null);
-        User manager = new User(
+        User manager = TestUsers.user(
             "manager",
             "pass",
             "email@example.com",
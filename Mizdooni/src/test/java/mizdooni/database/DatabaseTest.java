@@ -0,0 +1,156 @@
+package mizdooni.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import mizdooni.TestUsers;
+import mizdooni.model.Address;
+import mizdooni.model.Restaurant;
+import mizdooni.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DatabaseTest {
+
+    private Database database;
+    private User client;
+    private User manager;
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        database = new Database(TestUsers.HASHER);
+        Address address = new Address("Iran", "Tehran", "Vanak");
+        client = TestUsers.user("indexedClient", "1234", "indexed.client@gmail.com", address, User.Role.client);
+        manager = TestUsers.user("indexedManager", "1234", "indexed.manager@gmail.com", address, User.Role.manager);
+        restaurant = new Restaurant("Indexed Restaurant", manager, "Italian", LocalTime.of(9, 0), LocalTime.of(22, 0),
+                "desc", address, "link");
+    }
+
+    @Test
+    @DisplayName("Test Users Are Indexed On Add")
+    void testAddUser() {
+        database.addUser(client);
+
+        assertSame(client, database.findUser(client.getId()));
+        assertSame(client, database.findUserByUsername("indexedClient"));
+        assertSame(client, database.findUserByEmail("indexed.client@gmail.com"));
+        assertTrue(database.getUsers().contains(client));
+    }
+
+    @Test
+    @DisplayName("Test Restaurants Are Indexed On Add")
+    void testAddRestaurant() {
+        database.addUser(manager);
+        database.addRestaurant(restaurant);
+
+        assertSame(restaurant, database.findRestaurant(restaurant.getId()));
+        assertSame(restaurant, database.findRestaurantByName("Indexed Restaurant"));
+        assertEquals(1, database.findManagerRestaurants(manager.getId()).size());
+        assertSame(restaurant, database.getRestaurants().getLast());
+    }
+
+    @Test
+    @DisplayName("Test Lookups Of Missing Entries")
+    void testFindMissing() {
+        assertNull(database.findUser(-1));
+        assertNull(database.findUserByUsername("missing"));
+        assertNull(database.findUserByEmail("missing@gmail.com"));
+        assertNull(database.findRestaurant(-1));
+        assertNull(database.findRestaurantByName("missing"));
+        assertTrue(database.findManagerRestaurants(-1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Loaded Data Is Indexed")
+    void testLoadedDataIndexed() {
+        for (User user : database.getUsers()) {
+            assertSame(user, database.findUserByUsername(user.getUsername()));
+        }
+        for (Restaurant loaded : database.getRestaurants()) {
+            assertSame(loaded, database.findRestaurant(loaded.getId()));
+            assertSame(loaded, database.findRestaurantByName(loaded.getName()));
+        }
+    }
+
+    @Test
+    @DisplayName("Test Exposed Lists Are Read-Only")
+    void testListsReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> database.getUsers().add(client));
+        assertThrows(UnsupportedOperationException.class, () -> database.getRestaurants().add(restaurant));
+    }
+
+    @Test
+    @DisplayName("Test Duplicate Keys Are Rejected")
+    void testDuplicatesRejected() {
+        Address address = new Address("Iran", "Tehran", null);
+        User sameUsername = TestUsers.user("indexedClient", "1234", "other@gmail.com", address, User.Role.client);
+        User sameEmail = TestUsers.user("otherClient", "1234", "indexed.client@gmail.com", address, User.Role.client);
+        Restaurant sameName = new Restaurant("Indexed Restaurant", manager, "Iranian", LocalTime.of(9, 0),
+                LocalTime.of(22, 0), "desc", address, "link");
+
+        assertTrue(database.addUser(client));
+        assertFalse(database.addUser(sameUsername));
+        assertFalse(database.addUser(sameEmail));
+        assertTrue(database.addRestaurant(restaurant));
+        assertFalse(database.addRestaurant(sameName));
+        assertSame(client, database.findUserByUsername("indexedClient"));
+        assertSame(restaurant, database.findRestaurantByName("Indexed Restaurant"));
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Writes And Reads")
+    void testConcurrentWritesAndReads() throws Exception {
+        int writers = 8;
+        int perWriter = 200;
+        int initialRestaurants = database.getRestaurants().size();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perWriter; i++) {
+                    String name = "concurrent-" + writer + "-" + i;
+                    database.addRestaurant(new Restaurant(name, manager, "Fast Food", LocalTime.of(9, 0),
+                            LocalTime.of(22, 0), "desc", restaurant.getAddress(), "link"));
+                    database.addRestaurant(new Restaurant("concurrent-shared-" + i, manager, "Fast Food",
+                            LocalTime.of(9, 0), LocalTime.of(22, 0), "desc", restaurant.getAddress(), "link"));
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < 500; i++) {
+                for (Restaurant r : database.getRestaurants()) {
+                    assertNotNull(r.getName());
+                }
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(initialRestaurants + writers * perWriter + perWriter, database.getRestaurants().size());
+        assertEquals(writers * perWriter + perWriter, database.findManagerRestaurants(manager.getId()).size());
+        for (Restaurant r : database.getRestaurants()) {
+            assertSame(r, database.findRestaurantByName(r.getName()));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package mizdooni.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import mizdooni.TestUsers;
+import mizdooni.model.Address;
+import mizdooni.model.Rating;
+import mizdooni.model.Restaurant;
+import mizdooni.model.RestaurantSearchFilter;
+import mizdooni.model.Review;
+import mizdooni.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RestaurantSearchIndexTest {
+
+    private static final String[] TYPES = { "Italian", "Iranian", "Fast Food", "Cafe" };
+    private static final String[] CITIES = { "Tehran", "Shiraz", "Tabriz" };
+    private static final String[] NAME_PARTS = { "Sib", "Anar", "Golestan", "Shab", "Sabz", "Kh" };
+    private static final String[] NAME_QUERIES = { "", "S", "ab", "Sib", "Anar Sib", "olest", "ba", "zz", "Kh Kh" };
+    private static final String[] SORTS = { null, "rating", "reviews", "name" };
+    private static final String[] ORDERS = { null, "asc", "desc" };
+
+    private RestaurantSearchIndex index;
+    private List<Restaurant> restaurants;
+    private User manager;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        index = new RestaurantSearchIndex();
+        restaurants = new ArrayList<>();
+        manager = TestUsers.user("searchManager", "1234", "search.manager@gmail.com", null, User.Role.manager);
+        random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            String name = NAME_PARTS[random.nextInt(NAME_PARTS.length)] + " " + NAME_PARTS[random.nextInt(NAME_PARTS.length)] + " " + i;
+            Restaurant restaurant = new Restaurant(name, manager, TYPES[random.nextInt(TYPES.length)],
+                    LocalTime.of(9, 0), LocalTime.of(22, 0), "desc",
+                    new Address("Iran", CITIES[random.nextInt(CITIES.length)], "street"), "link");
+            addReviews(restaurant, random.nextInt(4));
+            restaurants.add(restaurant);
+            index.add(restaurant);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Search Matches Filter Scan")
+    void testSearchMatchesFilter() {
+        for (String name : withNull(NAME_QUERIES)) {
+            for (String type : withNull(TYPES)) {
+                for (String city : withNull(CITIES)) {
+                    for (String sort : SORTS) {
+                        for (String order : ORDERS) {
+                            RestaurantSearchFilter filter = filter(name, type, city, sort, order);
+                            assertEquals(scan(filter, restaurants), index.search(filter));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Limited Search Returns Top Matches And Total")
+    void testLimitedSearch() {
+        int[] limits = { 0, 1, 5, 12, 36, 1000 };
+        for (String name : withNull(NAME_QUERIES)) {
+            for (String type : withNull(TYPES)) {
+                for (String sort : SORTS) {
+                    for (String order : ORDERS) {
+                        RestaurantSearchFilter filter = filter(name, type, null, sort, order);
+                        List<Restaurant> expected = scan(filter, restaurants);
+                        for (int limit : limits) {
+                            RestaurantSearchIndex.Result result = index.search(filter, limit);
+                            assertEquals(expected.size(), result.getTotal());
+                            assertEquals(expected.subList(0, Math.min(limit, expected.size())), result.getRestaurants());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Cursor Pages Cover Filter Result")
+    void testCursorPaging() {
+        for (String name : withNull(NAME_QUERIES)) {
+            for (String city : withNull(CITIES)) {
+                for (String sort : SORTS) {
+                    for (String order : ORDERS) {
+                        RestaurantSearchFilter filter = filter(name, null, city, sort, order);
+                        List<Restaurant> paged = new ArrayList<>();
+                        long[] cursor = null;
+                        while (true) {
+                            List<Restaurant> page = index.searchAfter(filter, cursor, 7);
+                            paged.addAll(page);
+                            if (page.size() < 7) {
+                                break;
+                            }
+                            cursor = index.cursorOf(filter, page.getLast());
+                        }
+                        assertEquals(scan(filter, restaurants), paged);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Cursor From Other Ordering Is Rejected")
+    void testCursorOrderingMismatch() {
+        RestaurantSearchFilter byRating = filter(null, null, null, "rating", null);
+        RestaurantSearchFilter byReviews = filter(null, null, null, "reviews", null);
+        long[] cursor = index.cursorOf(byRating, restaurants.getFirst());
+
+        assertThrows(IllegalArgumentException.class, () -> index.searchAfter(byReviews, cursor, 5));
+    }
+
+    @Test
+    @DisplayName("Test Sorted Search Reflects Rating Changes")
+    void testSortedSearchAfterRatingChange() {
+        RestaurantSearchFilter byRating = filter(null, null, null, "rating", null);
+        RestaurantSearchFilter byReviews = filter(null, null, null, "reviews", "asc");
+        index.search(byRating);
+        index.search(byReviews);
+
+        for (int i = 0; i < 50; i++) {
+            Restaurant restaurant = restaurants.get(random.nextInt(restaurants.size()));
+            addReviews(restaurant, 1);
+            index.ratingChanged(restaurant);
+        }
+
+        assertEquals(scan(byRating, restaurants), index.search(byRating));
+        assertEquals(scan(byReviews, restaurants), index.search(byReviews));
+    }
+
+    @Test
+    @DisplayName("Test Sorted Search During Concurrent Rating Changes")
+    void testSortedSearchDuringRatingChanges() throws InterruptedException {
+        RestaurantSearchFilter byRating = filter(null, null, null, "rating", "desc");
+        RestaurantSearchFilter byReviews = filter(null, "Cafe", null, "reviews", null);
+        index.search(byRating);
+        User reviewer = TestUsers.user("concurrentReviewer", "1234", "concurrent.reviewer@gmail.com", null, User.Role.client);
+        Random writerRandom = new Random(11);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                Restaurant restaurant = restaurants.get(writerRandom.nextInt(restaurants.size()));
+                Rating rating = new Rating(0, 0, 0, writerRandom.nextInt(6));
+                restaurant.addReview(new Review(reviewer, rating, "comment", LocalDateTime.now()));
+                index.ratingChanged(restaurant);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            assertEquals(restaurants.size(), index.search(byRating, 5).getTotal());
+            index.search(byReviews, 5);
+            index.searchAfter(byRating, null, 5);
+        }
+        writer.join();
+
+        assertEquals(scan(byRating, restaurants), index.search(byRating));
+        assertEquals(scan(byReviews, restaurants), index.search(byReviews));
+    }
+
+    @Test
+    @DisplayName("Test Search Sees Added Restaurants")
+    void testSearchSeesAddedRestaurants() {
+        RestaurantSearchFilter filter = filter("Newcomer", null, null, "reviews", null);
+        assertTrue(index.search(filter).isEmpty());
+
+        Restaurant newcomer = new Restaurant("Newcomer", manager, "Cafe", LocalTime.of(9, 0), LocalTime.of(22, 0),
+                "desc", new Address("Iran", "Tehran", "street"), "link");
+        restaurants.add(newcomer);
+        index.add(newcomer);
+
+        assertEquals(List.of(newcomer), index.search(filter));
+    }
+
+    private void addReviews(Restaurant restaurant, int count) {
+        for (int i = 0; i < count; i++) {
+            User reviewer = TestUsers.user("reviewer", "1234", "reviewer@gmail.com", null, User.Role.client);
+            Rating rating = new Rating(random.nextInt(6), random.nextInt(6), random.nextInt(6), random.nextInt(6));
+            restaurant.addReview(new Review(reviewer, rating, "comment", LocalDateTime.now()));
+        }
+    }
+
+    private static List<String> withNull(String[] values) {
+        List<String> list = new ArrayList<>(Arrays.asList(values));
+        list.add(null);
+        return list;
+    }
+
+    // the linear scan the index replaced, kept as the oracle for results and tie order
+    private static List<Restaurant> scan(RestaurantSearchFilter filter, List<Restaurant> restaurants) {
+        String name = filter.getName();
+        String type = filter.getType();
+        String location = filter.getLocation();
+        String sort = filter.getSort();
+        String order = filter.getOrder();
+        List<Restaurant> rest = new ArrayList<>(restaurants);
+        if (name != null) {
+            rest = rest.stream().filter(r -> r.getName().contains(name)).collect(Collectors.toList());
+        }
+        if (type != null) {
+            rest = rest.stream().filter(r -> r.getType().equals(type)).collect(Collectors.toList());
+        }
+        if (location != null) {
+            rest = rest.stream().filter(r -> r.getAddress().getCity().equals(location)).collect(Collectors.toList());
+        }
+        if (sort != null) {
+            if (sort.equals("rating")) {
+                Comparator<Restaurant> comparator = Comparator.comparing(r -> r.getAverageRating().overall);
+                if (order != null && order.equals("asc")) {
+                    comparator = comparator.reversed();
+                }
+                rest.sort(comparator.reversed());
+            } else if (sort.equals("reviews")) {
+                Comparator<Restaurant> comparator = Comparator.comparingInt(Restaurant::getReviewCount);
+                if (order != null && order.equals("asc")) {
+                    comparator = comparator.reversed();
+                }
+                rest.sort(comparator.reversed());
+            }
+        }
+        return rest;
+    }
+
+    private static RestaurantSearchFilter filter(String name, String type, String city, String sort, String order) {
+        RestaurantSearchFilter filter = new RestaurantSearchFilter();
+        filter.setName(name);
+        filter.setType(type);
+        filter.setLocation(city);
+        filter.setSort(sort);
+        filter.setOrder(order);
+        return filter;
+    }
+}
@@ -0,0 +1,66 @@
+package mizdooni.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = new PasswordHasher(1000);
+    }
+
+    @Test
+    @DisplayName("Test Hash Is Salted")
+    void testHashIsSalted() {
+        String first = hasher.hash("password123");
+        String second = hasher.hash("password123");
+
+        assertTrue(first.startsWith(PasswordHasher.PREFIX + "$1000$"));
+        assertFalse(first.contains("password123"));
+        assertNotEquals(first, second);
+        assertTrue(PasswordHasher.verify("password123", first));
+        assertTrue(PasswordHasher.verify("password123", second));
+    }
+
+    @Test
+    @DisplayName("Test Verify Rejects Wrong Password")
+    void testVerifyWrongPassword() {
+        String hash = hasher.hash("password123");
+
+        assertFalse(PasswordHasher.verify("password124", hash));
+        assertFalse(PasswordHasher.verify("", hash));
+    }
+
+    @Test
+    @DisplayName("Test Verify Uses Stored Work Factor")
+    void testVerifyUsesStoredIterations() {
+        String hash = hasher.hash("password123");
+        PasswordHasher stronger = new PasswordHasher(2000);
+
+        assertTrue(PasswordHasher.verify("password123", hash));
+        assertTrue(stronger.hash("password123").startsWith(PasswordHasher.PREFIX + "$2000$"));
+    }
+
+    @Test
+    @DisplayName("Test User Keeps Precomputed Hash")
+    void testUserWithPasswordHash() {
+        String hash = hasher.hash("password123");
+        User user = User.withPasswordHash("client", hash, "client@gmail.com", null, User.Role.client);
+
+        assertTrue(user.checkPassword("password123"));
+        assertFalse(user.checkPassword("password124"));
+    }
+
+    @Test
+    @DisplayName("Test Invalid Hash And Work Factor Are Rejected")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> PasswordHasher.verify("password123", "password123"));
+        assertThrows(IllegalArgumentException.class, () -> new PasswordHasher(0));
+    }
+}
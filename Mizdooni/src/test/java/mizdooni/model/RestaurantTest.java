@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -121,6 +122,143 @@ class RestaurantTest {
         assertEquals(review2, reviews.get(0));
     }
 
+    @Test
+    @DisplayName("Test Replacing Reviews Keeps Order")
+    void testReplacingReviewKeepsOrder() {
+        User user3 = mock(User.class);
+        Review review3 = mock(Review.class);
+        Review review4 = mock(Review.class);
+        when(review1.getUser()).thenReturn(user1);
+        when(review2.getUser()).thenReturn(user2);
+        when(review3.getUser()).thenReturn(user3);
+        when(review4.getUser()).thenReturn(user1);
+
+        restaurant.addReview(review1);
+        restaurant.addReview(review2);
+        restaurant.addReview(review3);
+        restaurant.addReview(review4);
+
+        assertEquals(3, restaurant.getReviewCount());
+        assertEquals(List.of(review2, review3, review4), restaurant.getReviews());
+
+        restaurant.addReview(review1);
+
+        assertEquals(List.of(review2, review3, review1), restaurant.getReviews());
+        assertThrows(UnsupportedOperationException.class, () -> restaurant.getReviews().add(review2));
+    }
+
+    @Test
+    @DisplayName("Test getReviews: Snapshot Readable During Concurrent Writes")
+    void testGetReviewsSnapshotDuringWrites() throws InterruptedException {
+        User[] users = new User[64];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = mock(User.class);
+        }
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 5_000; i++) {
+                restaurant.addReview(new Review(users[i % users.length], new Rating(1, 2, 3, 4), "comment", null));
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            List<Review> snapshot = restaurant.getReviews();
+            int size = snapshot.size();
+            for (Review review : snapshot) {
+                assertNotNull(review);
+            }
+            assertEquals(size, snapshot.size());
+        }
+        writer.join();
+
+        assertEquals(users.length, restaurant.getReviewCount());
+        assertEquals(users.length, restaurant.getReviews().size());
+    }
+
+    @Test
+    @DisplayName("Test getReviewsAfter: Stable While Reviews Arrive")
+    void testGetReviewsAfter() {
+        User[] users = { mock(User.class), mock(User.class), mock(User.class), mock(User.class) };
+        Review[] reviews = new Review[users.length];
+        for (int i = 0; i < users.length; i++) {
+            reviews[i] = new Review(users[i], new Rating(), "comment", null);
+            restaurant.addReview(reviews[i]);
+        }
+
+        List<Review> first = restaurant.getReviewsAfter(-1, 2);
+        assertEquals(List.of(reviews[0], reviews[1]), first);
+
+        Review replacement = new Review(users[0], new Rating(), "updated", null);
+        Review newcomer = new Review(mock(User.class), new Rating(), "new", null);
+        restaurant.addReview(replacement);
+        restaurant.addReview(newcomer);
+
+        List<Review> second = restaurant.getReviewsAfter(first.getLast().getSequence(), 2);
+        assertEquals(List.of(reviews[2], reviews[3]), second);
+        assertEquals(List.of(replacement, newcomer), restaurant.getReviewsAfter(second.getLast().getSequence(), 2));
+        assertEquals(List.of(reviews[1], reviews[2], reviews[3], replacement, newcomer), restaurant.getReviews());
+    }
+
+    @Test
+    @DisplayName("Test getReviewsAfter: Cursor Survives Log Compaction")
+    void testGetReviewsAfterAcrossCompaction() {
+        User[] users = { mock(User.class), mock(User.class), mock(User.class), mock(User.class) };
+        Review[] latest = new Review[users.length];
+        for (int i = 0; i < users.length; i++) {
+            latest[i] = new Review(users[i], new Rating(), "comment", null);
+            restaurant.addReview(latest[i]);
+        }
+        List<Review> first = restaurant.getReviewsAfter(-1, 2);
+        List<Review> snapshot = restaurant.getReviews();
+
+        for (int i = 0; i < 500; i++) {
+            int u = 2 + i % 2;
+            latest[u] = new Review(users[u], new Rating(), "updated " + i, null);
+            restaurant.addReview(latest[u]);
+            if (i % 7 == 0) {
+                restaurant.getReviews();
+            }
+        }
+
+        assertEquals(List.of(latest[0], latest[1]), first);
+        assertEquals(4, snapshot.size());
+        assertEquals(4, restaurant.getReviewCount());
+        assertEquals(List.of(latest[0], latest[1], latest[2], latest[3]), restaurant.getReviews());
+        assertEquals(List.of(latest[2], latest[3]), restaurant.getReviewsAfter(first.getLast().getSequence(), 5));
+        assertEquals(List.of(latest[3]), restaurant.getReviewsAfter(latest[2].getSequence(), 5));
+    }
+
+    @Test
+    @DisplayName("Test addReview: Replacement Cost Independent Of Review Count")
+    void testReplacingReviewDoesNotScaleWithReviewCount() {
+        timeReplacements(1_000, 1_000);
+        long small = timeReplacements(1_000, 1_000);
+        long large = timeReplacements(200_000, 1_000);
+
+        assertTrue(large < 5 * small + 50_000_000L, "small: " + small + "ns, large: " + large + "ns");
+    }
+
+    // replaces the newest reviews newest first, right after the dense view was read, and returns the elapsed nanos
+    private long timeReplacements(int reviewCount, int replacements) {
+        User[] users = new User[reviewCount];
+        Restaurant target = new Restaurant("Busy", manager, "Italian", LocalTime.of(9, 0), LocalTime.of(22, 0),
+                "", address, "");
+        for (int i = 0; i < reviewCount; i++) {
+            users[i] = User.withPasswordHash("user" + i, "hash", "user" + i + "@mail.com", address, User.Role.client);
+            target.addReview(new Review(users[i], new Rating(1, 2, 3, 4), "comment", null));
+        }
+        assertEquals(reviewCount, target.getReviews().size());
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= replacements; i++) {
+            target.addReview(new Review(users[reviewCount - i], new Rating(4, 3, 2, 1), "updated", null));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(reviewCount, target.getReviewCount());
+        assertEquals(reviewCount, target.getReviews().size());
+        return elapsed;
+    }
+
     @Test
     @DisplayName("Test getMaxSeatsNumber: Multiple Tables")
     void testGetMaxSeatsNumberMultipleTables() {
@@ -133,6 +271,24 @@ class RestaurantTest {
         assertEquals(6, restaurant.getMaxSeatsNumber());
     }
 
+    @Test
+    @DisplayName("Test getTablesWithSeatsAtLeast: Ordered By Seats")
+    void testGetTablesWithSeatsAtLeast() {
+        Table table3 = mock(Table.class);
+        when(table1.getSeatsNumber()).thenReturn(6);
+        when(table2.getSeatsNumber()).thenReturn(2);
+        when(table3.getSeatsNumber()).thenReturn(4);
+
+        restaurant.addTable(table1);
+        restaurant.addTable(table2);
+        restaurant.addTable(table3);
+
+        assertEquals(List.of(List.of(table3), List.of(table1)), List.copyOf(restaurant.getTablesWithSeatsAtLeast(3)));
+        assertEquals(3, restaurant.getTablesWithSeatsAtLeast(1).size());
+        assertTrue(restaurant.getTablesWithSeatsAtLeast(7).isEmpty());
+        assertEquals(List.of(table1, table2, table3), restaurant.getTables());
+    }
+
     @Test
     @DisplayName("Test getMaxSeatsNumber: No Tables")
     void testGetMaxSeatsNumberNoTables() {
@@ -178,6 +334,56 @@ class RestaurantTest {
         assertEquals((overall1 + overall2) / 2, avgRating.overall);
     }
 
+    @Test
+    @DisplayName("Test getAverageRating: Replaced Review")
+    void testGetAverageRatingReplacedReview() {
+        Review review3 = mock(Review.class);
+        when(review1.getRating()).thenReturn(new Rating(4.0, 4.0, 4.0, 4.0));
+        when(review2.getRating()).thenReturn(new Rating(2.0, 2.0, 2.0, 2.0));
+        when(review3.getRating()).thenReturn(new Rating(1.0, 3.0, 5.0, 3.0));
+        when(review1.getUser()).thenReturn(user1);
+        when(review2.getUser()).thenReturn(user2);
+        when(review3.getUser()).thenReturn(user1);
+
+        restaurant.addReview(review1);
+        restaurant.addReview(review2);
+        restaurant.addReview(review3);
+
+        Rating avgRating = restaurant.getAverageRating();
+        assertEquals(2, restaurant.getReviewCount());
+        assertEquals(1.5, avgRating.food);
+        assertEquals(2.5, avgRating.service);
+        assertEquals(3.5, avgRating.ambiance);
+        assertEquals(2.5, avgRating.overall);
+        assertEquals(3, restaurant.getStarCount());
+    }
+
+    @Test
+    @DisplayName("Test getAverageRating: No Drift After Many Replacements")
+    void testGetAverageRatingNoDrift() {
+        Random random = new Random(42);
+        User[] users = { mock(User.class), mock(User.class), mock(User.class) };
+        Rating[] latest = new Rating[users.length];
+        for (int i = 0; i < 100_000; i++) {
+            int u = i % users.length;
+            latest[u] = new Rating(random.nextInt(51) / 10.0, 0.1, 0.7, random.nextInt(11) / 2.0);
+            restaurant.addReview(new Review(users[u], latest[u], "comment", null));
+        }
+
+        Restaurant fresh = new Restaurant("Fresh", manager, "Italian", LocalTime.of(9, 0), LocalTime.of(22, 0),
+                "", address, "");
+        for (int u = 0; u < users.length; u++) {
+            fresh.addReview(new Review(users[u], latest[u], "comment", null));
+        }
+
+        Rating drifted = restaurant.getAverageRating();
+        Rating expected = fresh.getAverageRating();
+        assertEquals(expected.food, drifted.food);
+        assertEquals(expected.service, drifted.service);
+        assertEquals(expected.ambiance, drifted.ambiance);
+        assertEquals(expected.overall, drifted.overall);
+    }
+
     @Test
     @DisplayName("Test getAverageRating: No Reviews")
     void testGetAverageRatingNoReviews() {
@@ -48,6 +48,22 @@ class TableTest {
         assertEquals(reservation1, reservations.get(0));
     }
 
+    @Test
+    @DisplayName("Test getReservations: Returns Unmodifiable Snapshot")
+    void testGetReservationsSnapshot() {
+        LocalDateTime futureDate = LocalDateTime.now().plusDays(1);
+        when(reservation1.getDateTime()).thenReturn(futureDate);
+        when(reservation2.getDateTime()).thenReturn(futureDate.plusHours(1));
+
+        table.addReservation(reservation1);
+        List<Reservation> snapshot = table.getReservations();
+        table.addReservation(reservation2);
+
+        assertEquals(List.of(reservation1), snapshot);
+        assertEquals(List.of(reservation1, reservation2), table.getReservations());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(reservation2));
+    }
+
     @ParameterizedTest
     @CsvSource({
         "2024-10-20T10:00:00, false",  // No reservation added, expect false
@@ -173,4 +189,36 @@ class TableTest {
         assertFalse(table.isReserved(reservationTime));
         assertEquals(0, table.getReservations().stream().filter(r -> !r.isCancelled()).count());
     }
+
+    @Test
+    @DisplayName("Test Cancel Releases Reserved Slot")
+    void testCancelReleasesSlot() {
+        LocalDateTime reservationTime = LocalDateTime.of(2024, 10, 20, 12, 0);
+        Reservation first = new Reservation(null, restaurant, table, reservationTime);
+        Reservation second = new Reservation(null, restaurant, table, reservationTime);
+
+        table.addReservation(first);
+        table.addReservation(second);
+        first.cancel();
+
+        assertTrue(table.isReserved(reservationTime));
+
+        second.cancel();
+
+        assertFalse(table.isReserved(reservationTime));
+        assertEquals(2, table.getReservations().size());
+    }
+
+    @Test
+    @DisplayName("Test isReserved Ignores Other Slots In History")
+    void testIsReservedIgnoresOtherSlots() {
+        LocalDateTime start = LocalDateTime.of(2024, 10, 20, 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            table.addReservation(new Reservation(null, restaurant, table, start.plusHours(i)));
+        }
+
+        assertTrue(table.isReserved(start.plusHours(999)));
+        assertFalse(table.isReserved(start.plusHours(1000)));
+        assertFalse(table.isReserved(start.plusMinutes(30)));
+    }
 }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import mizdooni.TestUsers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,7 +31,7 @@ class UserTest {
     void setUp() {
         address = new Address("Country", "City", "123 Main St");
         user =
-            new User(
+            TestUsers.user(
                 "mahdies",
                 "password123",
                 "mahdi@example.com",
@@ -0,0 +1,94 @@
+package mizdooni.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import mizdooni.TestUsers;
+import mizdooni.model.Address;
+import mizdooni.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoginExecutorTest {
+
+    private LoginExecutor loginExecutor;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        loginExecutor = new LoginExecutor(1, 1, Duration.ofSeconds(10), TestUsers.HASHER);
+        user = TestUsers.user("client", "1234", "client@gmail.com", new Address("Iran", "Tehran", null), User.Role.client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test Check Password Records Metrics")
+    void testCheckPassword() {
+        assertTrue(loginExecutor.checkPassword(user, "1234"));
+        assertFalse(loginExecutor.checkPassword(user, "4321"));
+        assertFalse(loginExecutor.checkPassword(null, "1234"));
+
+        LoginExecutor.Metrics metrics = loginExecutor.getMetrics();
+        assertEquals(3, metrics.attempts());
+        assertEquals(1, metrics.succeeded());
+        assertEquals(2, metrics.failed());
+        assertEquals(0, metrics.rejected());
+        assertTrue(metrics.loginsPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("Test Full Queue Rejects Login")
+    void testQueueBounded() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<?> running = callers.submit(() -> loginExecutor.execute(() -> {
+            started.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        }));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        Future<Boolean> queued = callers.submit(() -> loginExecutor.execute(() -> true));
+        while (loginExecutor.getMetrics().queued() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> loginExecutor.checkPassword(user, "1234"));
+        assertEquals(1, loginExecutor.getMetrics().rejected());
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        assertTrue(queued.get(10, TimeUnit.SECONDS));
+        assertTrue(loginExecutor.checkPassword(user, "1234"));
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test Slow Login Times Out")
+    void testTimeout() throws Exception {
+        LoginExecutor impatient = new LoginExecutor(1, 1, Duration.ofMillis(50), TestUsers.HASHER);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertThrows(RejectedExecutionException.class,
+                    () -> impatient.execute(() -> release.await(10, TimeUnit.SECONDS)));
+            assertEquals(1, impatient.getMetrics().timedOut());
+            assertEquals(0, impatient.getMetrics().rejected());
+
+            release.countDown();
+            assertTrue(impatient.execute(() -> true));
+        } finally {
+            impatient.shutdown();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package mizdooni.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import mizdooni.TestUsers;
+import mizdooni.database.Database;
+import mizdooni.exceptions.TableNotFound;
+import mizdooni.model.Address;
+import mizdooni.model.Reservation;
+import mizdooni.model.Restaurant;
+import mizdooni.model.Table;
+import mizdooni.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceTest {
+
+    @Mock
+    private Database db;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    private User client;
+    private Restaurant restaurant;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        Address address = new Address("Iran", "Tehran", "Vanak");
+        User manager = TestUsers.user("manager", "1234", "manager@gmail.com", address, User.Role.manager);
+        client = TestUsers.user("client", "1234", "client@gmail.com", address, User.Role.client);
+        restaurant = new Restaurant("Restaurant", manager, "Italian", LocalTime.of(8, 0), LocalTime.of(23, 0),
+                "desc", address, "link");
+        date = LocalDate.now().plusDays(1);
+    }
+
+    @Test
+    @DisplayName("Test streamReservations: Unaffected By Later Bookings")
+    void testStreamReservationsSnapshot() throws Exception {
+        Table table = new Table(0, restaurant.getId(), 4);
+        restaurant.addTable(table);
+        reserve(table, date.atTime(12, 0));
+        when(db.findRestaurant(restaurant.getId())).thenReturn(restaurant);
+        when(userService.getCurrentUser()).thenReturn(restaurant.getManager());
+
+        Stream<Reservation> reservations = reservationService.streamReservations(restaurant.getId(), table.getTableNumber(), date);
+        reserve(table, date.atTime(13, 0));
+        reserve(table, date.plusDays(1).atTime(12, 0));
+
+        assertEquals(1, reservations.count());
+    }
+
+    @Test
+    @DisplayName("Test getAvailableTimes: No Reservations")
+    void testAvailableTimesNoReservations() throws Exception {
+        restaurant.addTable(new Table(0, restaurant.getId(), 4));
+        when(db.findRestaurant(restaurant.getId())).thenReturn(restaurant);
+
+        List<LocalTime> times = reservationService.getAvailableTimes(restaurant.getId(), 2, date);
+
+        assertEquals(16, times.size());
+        assertEquals(LocalTime.of(8, 0), times.getFirst());
+        assertEquals(LocalTime.of(23, 0), times.getLast());
+    }
+
+    @Test
+    @DisplayName("Test getAvailableTimes: Cancelled Reservation Frees Hour")
+    void testAvailableTimesCancelled() throws Exception {
+        Table table = new Table(0, restaurant.getId(), 4);
+        restaurant.addTable(table);
+        Reservation reservation = reserve(table, date.atTime(12, 0));
+        when(db.findRestaurant(restaurant.getId())).thenReturn(restaurant);
+
+        assertFalse(reservationService.getAvailableTimes(restaurant.getId(), 2, date).contains(LocalTime.of(12, 0)));
+
+        reservation.cancel();
+
+        assertTrue(reservationService.getAvailableTimes(restaurant.getId(), 2, date).contains(LocalTime.of(12, 0)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1, 3", "2, 11", "4, 29", "6, 47" })
+    @DisplayName("Test getAvailableTimes: Matches Per-Slot Scan")
+    void testAvailableTimesMatchesScan(int people, long seed) throws Exception {
+        Random random = new Random(seed);
+        for (int i = 0; i < 8; i++) {
+            restaurant.addTable(new Table(0, restaurant.getId(), 1 + random.nextInt(8)));
+        }
+        for (int i = 0; i < 300; i++) {
+            Table table = restaurant.getTables().get(random.nextInt(restaurant.getTables().size()));
+            LocalDateTime datetime = date.plusDays(random.nextInt(3) - 1).atTime(random.nextInt(24), 0);
+            Reservation reservation = reserve(table, datetime);
+            if (random.nextInt(4) == 0) {
+                reservation.cancel();
+            }
+        }
+        when(db.findRestaurant(restaurant.getId())).thenReturn(restaurant);
+
+        assertEquals(scanAvailableTimes(people), reservationService.getAvailableTimes(restaurant.getId(), people, date));
+    }
+
+    @Test
+    @DisplayName("Test reserveTable: Smallest Free Table That Fits")
+    void testReserveTableBestFit() throws Exception {
+        Table large = new Table(0, restaurant.getId(), 8);
+        Table small = new Table(0, restaurant.getId(), 2);
+        Table medium = new Table(0, restaurant.getId(), 4);
+        Table otherMedium = new Table(0, restaurant.getId(), 4);
+        restaurant.addTable(large);
+        restaurant.addTable(small);
+        restaurant.addTable(medium);
+        restaurant.addTable(otherMedium);
+        LocalDateTime datetime = date.atTime(13, 0);
+        when(userService.getCurrentUser()).thenReturn(client);
+        when(db.findRestaurant(restaurant.getId())).thenReturn(restaurant);
+
+        assertSame(medium, reservationService.reserveTable(restaurant.getId(), 3, datetime).getTable());
+        assertSame(otherMedium, reservationService.reserveTable(restaurant.getId(), 3, datetime).getTable());
+        assertSame(large, reservationService.reserveTable(restaurant.getId(), 3, datetime).getTable());
+        assertThrows(TableNotFound.class, () -> reservationService.reserveTable(restaurant.getId(), 3, datetime));
+        assertSame(small, reservationService.reserveTable(restaurant.getId(), 2, datetime).getTable());
+    }
+
+    @Test
+    @DisplayName("Test reserveTable: No Double Booking Under Contention")
+    void testReserveTableConcurrently() throws Exception {
+        int tables = 5;
+        int threads = 16;
+        int attemptsPerThread = 50;
+        List<LocalDateTime> slots = List.of(date.atTime(12, 0), date.atTime(13, 0), date.atTime(14, 0));
+        for (int i = 0; i < tables; i++) {
+            restaurant.addTable(new Table(0, restaurant.getId(), 2 + i % 3));
+        }
+        when(userService.getCurrentUser()).thenReturn(client);
+        when(db.findRestaurant(restaurant.getId())).thenReturn(restaurant);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    try {
+                        reservationService.reserveTable(restaurant.getId(), 2, slots.get((thread + i) % slots.size()));
+                        booked.incrementAndGet();
+                    } catch (TableNotFound e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(tables * slots.size(), booked.get());
+        assertEquals(threads * attemptsPerThread - booked.get(), rejected.get());
+        assertEquals(booked.get(), client.getReservations().size());
+        for (Table table : restaurant.getTables()) {
+            for (LocalDateTime slot : slots) {
+                assertEquals(1, table.getReservations().stream().filter(r -> r.getDateTime().equals(slot)).count());
+            }
+        }
+        Set<Integer> numbers = client.getReservations().stream()
+                .map(Reservation::getReservationNumber)
+                .collect(Collectors.toSet());
+        assertEquals(booked.get(), numbers.size());
+        assertFalse(numbers.contains(-1));
+    }
+
+    private Reservation reserve(Table table, LocalDateTime datetime) {
+        Reservation reservation = new Reservation(client, restaurant, table, datetime);
+        client.addReservation(reservation);
+        table.addReservation(reservation);
+        return reservation;
+    }
+
+    private List<LocalTime> scanAvailableTimes(int people) {
+        Set<LocalTime> availableTimes = restaurant.getTables().stream()
+                .filter(table -> table.getSeatsNumber() >= people)
+                .flatMap(table -> {
+                    Set<LocalTime> reserves = table.getReservations().stream()
+                            .filter(r -> r.getDateTime().toLocalDate().equals(date) && !r.isCancelled())
+                            .map(r -> r.getDateTime().toLocalTime())
+                            .collect(Collectors.toSet());
+                    List<LocalTime> free = new ArrayList<>();
+                    for (int i = restaurant.getStartTime().getHour(); i <= restaurant.getEndTime().getHour(); i++) {
+                        if (!reserves.contains(LocalTime.of(i, 0))) {
+                            free.add(LocalTime.of(i, 0));
+                        }
+                    }
+                    return free.stream();
+                })
+                .collect(Collectors.toSet());
+        return availableTimes.stream().sorted().toList();
+    }
+}
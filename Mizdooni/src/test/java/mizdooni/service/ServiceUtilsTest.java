@@ -0,0 +1,45 @@
+package mizdooni.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ServiceUtilsTest {
+
+    private static final String ALPHABET = "aZ09_@.-!# \nй";
+
+    @ParameterizedTest
+    @CsvSource({ "user, true", "user_12, true", "_, true", "'', false", "user name, false", "user!, false", "us.er, false" })
+    @DisplayName("Test validateUsername")
+    void testValidateUsername(String username, boolean valid) {
+        assertEquals(valid, ServiceUtils.validateUsername(username));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "a@b.c, true", "user_1@mail.com, true", "a@b.c.d, false", "a.b@c.d, false", "@b.c, false",
+            "a@.c, false", "a@b., false", "a@b@c.d, false", "ab.c, false", "'', false" })
+    @DisplayName("Test validateEmail")
+    void testValidateEmail(String email, boolean valid) {
+        assertEquals(valid, ServiceUtils.validateEmail(email));
+    }
+
+    @Test
+    @DisplayName("Test Validators Match Regex Formats")
+    void testValidatorsMatchRegex() {
+        Random random = new Random(23);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String value = builder.toString();
+            assertEquals(value.matches("^\\w+$"), ServiceUtils.validateUsername(value), value);
+            assertEquals(value.matches("^\\w+@\\w+\\.\\w+$"), ServiceUtils.validateEmail(value), value);
+        }
+    }
+}
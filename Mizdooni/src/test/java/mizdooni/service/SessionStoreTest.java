@@ -0,0 +1,126 @@
+package mizdooni.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SessionStoreTest {
+
+    private MutableClock clock;
+    private SessionStore sessionStore;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        sessionStore = new SessionStore(Duration.ofMinutes(30), clock);
+    }
+
+    @Test
+    @DisplayName("Test Resolve Created Session")
+    void testResolve() {
+        String first = sessionStore.create(1);
+        String second = sessionStore.create(2);
+
+        assertNotEquals(first, second);
+        assertEquals(1, sessionStore.resolve(first));
+        assertEquals(2, sessionStore.resolve(second));
+        assertNull(sessionStore.resolve("unknown"));
+        assertNull(sessionStore.resolve(null));
+    }
+
+    @Test
+    @DisplayName("Test Session Expires")
+    void testExpiry() {
+        String token = sessionStore.create(1);
+
+        clock.advance(Duration.ofMinutes(29));
+        assertEquals(1, sessionStore.resolve(token));
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(sessionStore.resolve(token));
+        assertEquals(0, sessionStore.size());
+    }
+
+    @Test
+    @DisplayName("Test Remove Session")
+    void testRemove() {
+        String token = sessionStore.create(1);
+
+        assertTrue(sessionStore.remove(token));
+        assertNull(sessionStore.resolve(token));
+        assertFalse(sessionStore.remove(token));
+        assertFalse(sessionStore.remove(null));
+    }
+
+    @Test
+    @DisplayName("Test Expired Sessions Are Purged")
+    void testPurge() {
+        for (int i = 0; i < 10; i++) {
+            sessionStore.create(i);
+        }
+        clock.advance(Duration.ofHours(1));
+        String live = null;
+        for (int i = 0; i < SessionStore.PURGE_INTERVAL; i++) {
+            live = sessionStore.create(i);
+        }
+
+        assertTrue(sessionStore.size() <= SessionStore.PURGE_INTERVAL);
+        assertEquals(SessionStore.PURGE_INTERVAL - 1, sessionStore.resolve(live));
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Sessions")
+    void testConcurrentSessions() throws Exception {
+        Set<String> tokens = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            int userId = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 500; i++) {
+                    String token = sessionStore.create(userId);
+                    assertEquals(userId, sessionStore.resolve(token));
+                    tokens.add(token);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(4000, tokens.size());
+        assertEquals(4000, sessionStore.size());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
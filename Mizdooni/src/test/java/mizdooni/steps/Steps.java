@@ -2,6 +2,7 @@ package mizdooni.steps;
 
 import io.cucumber.java.en.*;
 import static org.junit.Assert.*;
+import mizdooni.TestUsers;
 import mizdooni.model.*;
 
 import java.time.LocalDateTime;
@@ -20,13 +21,13 @@ public class Steps {
 
     @Given("a user exists")
     public void a_user_exists_with_a_restaurant_existing() {
-        user = new User("Mahdi","1234", "mahdi@gmail.com",
+        user = TestUsers.user("Mahdi","1234", "mahdi@gmail.com",
         new Address("Iran", "Tehran", "Vanak"), User.Role.client);
     }
 
     @Given("a restaurant existing")
     public void a_restaurant_existing(){
-        manager = new User("shahriar", "1234", "shahriar@gmail.com",
+        manager = TestUsers.user("shahriar", "1234", "shahriar@gmail.com",
                 new Address("Iran", "Tehran", "Sepah"), User.Role.manager);
         restaurant = new Restaurant("Italian Restaurant", manager, "Italian", LocalTime.now(), LocalTime.now().plusHours(2),
                 "desc", new Address("Iran", "Tehran", "Vanak"),
@@ -89,7 +90,7 @@ public class Steps {
 
     @Given("another user exists as well")
     public void another_user_exists_as_well(){
-        user2 = new User("alireza", "1234", "alireza@gmail.com",
+        user2 = TestUsers.user("alireza", "1234", "alireza@gmail.com",
                 new Address("Iran", "Tehran", "Marzdarana"), User.Role.client);
     }
 